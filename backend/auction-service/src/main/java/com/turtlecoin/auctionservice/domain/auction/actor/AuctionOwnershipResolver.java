@@ -0,0 +1,96 @@
+package com.turtlecoin.auctionservice.domain.auction.actor;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.cloud.client.serviceregistry.Registration;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.CRC32;
+
+// Eureka에 등록된 auction-service 인스턴스들로 해시 링을 만들어 경매별 담당 인스턴스를 결정
+@Slf4j
+@Component
+public class AuctionOwnershipResolver {
+
+    // REMOTE는 담당 인스턴스로 전달하지 않는다. 호출하는 쪽에서 UNKNOWN과 같이 분산 락 경로로 처리한다
+    public enum Ownership {
+        LOCAL, REMOTE, UNKNOWN
+    }
+
+    private final DiscoveryClient discoveryClient;
+    private final ObjectProvider<Registration> registration;
+    private final String serviceName;
+    private final int virtualNodes;
+
+    private volatile Set<String> ringMembers = Collections.emptySet();
+    private volatile NavigableMap<Long, String> ring = new TreeMap<>();
+
+    public AuctionOwnershipResolver(DiscoveryClient discoveryClient,
+                                    ObjectProvider<Registration> registration,
+                                    @Value("${spring.application.name:auction-service}") String serviceName,
+                                    @Value("${auction.bid.actor.virtual-nodes:64}") int virtualNodes) {
+        this.discoveryClient = discoveryClient;
+        this.registration = registration;
+        this.serviceName = serviceName;
+        this.virtualNodes = virtualNodes;
+    }
+
+    public Ownership resolve(Long auctionId) {
+        Registration self = registration.getIfAvailable();
+        if (self == null || self.getInstanceId() == null) {
+            return Ownership.UNKNOWN;
+        }
+
+        NavigableMap<Long, String> currentRing;
+        try {
+            currentRing = refreshRing();
+        } catch (Exception e) {
+            log.warn("인스턴스 목록 조회 실패: {}", e.getMessage());
+            return Ownership.UNKNOWN;
+        }
+        if (currentRing.isEmpty() || !ringMembers.contains(self.getInstanceId())) {
+            return Ownership.UNKNOWN;
+        }
+
+        Map.Entry<Long, String> owner = currentRing.ceilingEntry(hash("auction-" + auctionId));
+        if (owner == null) {
+            owner = currentRing.firstEntry();
+        }
+        return owner.getValue().equals(self.getInstanceId()) ? Ownership.LOCAL : Ownership.REMOTE;
+    }
+
+    // 인스턴스 구성이 바뀌었을 때만 링을 다시 만든다
+    private NavigableMap<Long, String> refreshRing() {
+        Set<String> members = new TreeSet<>();
+        for (ServiceInstance instance : discoveryClient.getInstances(serviceName)) {
+            if (instance.getInstanceId() != null) {
+                members.add(instance.getInstanceId());
+            }
+        }
+        if (members.equals(ringMembers)) {
+            return ring;
+        }
+
+        NavigableMap<Long, String> newRing = new TreeMap<>();
+        for (String member : members) {
+            for (int i = 0; i < virtualNodes; i++) {
+                newRing.put(hash(member + "#" + i), member);
+            }
+        }
+        log.info("경매 담당 해시 링 갱신: {}", members);
+        ring = newRing;
+        ringMembers = members;
+        return newRing;
+    }
+
+    private long hash(String value) {
+        CRC32 crc = new CRC32();
+        crc.update(value.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
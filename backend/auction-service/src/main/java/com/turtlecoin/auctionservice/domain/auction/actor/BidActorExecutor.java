@@ -0,0 +1,64 @@
+package com.turtlecoin.auctionservice.domain.auction.actor;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+
+// 경매 ID 해시로 고른 단일 스레드 메일박스에서 입찰을 순서대로 처리
+// 같은 경매의 입찰은 항상 같은 스레드에서 처리되므로 락이 필요 없다
+// 담당 인스턴스(AuctionOwnershipResolver.Ownership.LOCAL)의 입찰만 여기로 오고,
+// 다른 인스턴스가 담당하는 경매(REMOTE)는 담당 인스턴스로 전달하지 않고 UNKNOWN과 같이 분산 락 경로로 처리한다
+// (순서 보장은 담당 인스턴스에서만, 입찰 검증/갱신은 어느 경로든 스크립트로 원자적으로 처리)
+@Slf4j
+@Component
+public class BidActorExecutor implements DisposableBean {
+
+    @Getter
+    private final boolean enabled;
+    private final ThreadPoolExecutor[] mailboxes;
+
+    public BidActorExecutor(@Value("${auction.bid.actor.enabled:false}") boolean enabled,
+                            @Value("${auction.bid.actor.mailboxes:8}") int mailboxCount,
+                            @Value("${auction.bid.actor.queue-capacity:1000}") int queueCapacity) {
+        if (enabled && mailboxCount < 1) {
+            throw new IllegalArgumentException("auction.bid.actor.mailboxes는 1 이상이어야 합니다: " + mailboxCount);
+        }
+        this.enabled = enabled;
+        this.mailboxes = new ThreadPoolExecutor[enabled ? mailboxCount : 0];
+        for (int i = 0; i < mailboxes.length; i++) {
+            String threadName = "bid-actor-" + i;
+            mailboxes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new LinkedBlockingQueue<>(queueCapacity),
+                    runnable -> new Thread(runnable, threadName),
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    // 메일박스가 가득 차 있으면 false를 반환하고, 호출한 쪽에서 기존 경로로 처리한다
+    public boolean submit(Long auctionId, Runnable task) {
+        if (!enabled) {
+            return false;
+        }
+        try {
+            mailboxes[Math.floorMod(auctionId.hashCode(), mailboxes.length)].execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            log.warn("입찰 메일박스가 가득 찼습니다: auctionId = {}", auctionId);
+            return false;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ThreadPoolExecutor mailbox : mailboxes) {
+            mailbox.shutdown();
+        }
+        for (ThreadPoolExecutor mailbox : mailboxes) {
+            mailbox.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.turtlecoin.auctionservice.domain.auction.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 입찰 요청 유입 제한 (락/스크립트 실행 전에 메모리에서 바로 거절)
+// 유저+경매, 경매, 전체 순서로 토큰 버킷을 확인해서 도배하는 한 명이 다른 입찰자를 밀어내지 못하게 한다
+@Slf4j
+@Component
+public class BidAdmissionGate implements DisposableBean {
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final boolean enabled;
+    private final double userRate;
+    private final double userBurst;
+    private final double auctionRate;
+    private final double auctionBurst;
+    private final TokenBucket globalBucket;
+
+    // "userId:auctionId" -> 버킷
+    private final Map<String, TokenBucket> userBuckets = new ConcurrentHashMap<>();
+    private final Map<Long, TokenBucket> auctionBuckets = new ConcurrentHashMap<>();
+
+    private final Counter userShedCounter;
+    private final Counter auctionShedCounter;
+    private final Counter globalShedCounter;
+
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "bid-admission-cleaner"));
+
+    public BidAdmissionGate(MeterRegistry meterRegistry,
+                            @Value("${auction.bid.admission.enabled:true}") boolean enabled,
+                            @Value("${auction.bid.admission.user-rate:5}") double userRate,
+                            @Value("${auction.bid.admission.user-burst:10}") double userBurst,
+                            @Value("${auction.bid.admission.auction-rate:200}") double auctionRate,
+                            @Value("${auction.bid.admission.auction-burst:400}") double auctionBurst,
+                            @Value("${auction.bid.admission.global-rate:2000}") double globalRate,
+                            @Value("${auction.bid.admission.global-burst:4000}") double globalBurst) {
+        this.enabled = enabled;
+        this.userRate = userRate;
+        this.userBurst = userBurst;
+        this.auctionRate = auctionRate;
+        this.auctionBurst = auctionBurst;
+        this.globalBucket = new TokenBucket(globalRate, globalBurst);
+        this.userShedCounter = shedCounter(meterRegistry, "user");
+        this.auctionShedCounter = shedCounter(meterRegistry, "auction");
+        this.globalShedCounter = shedCounter(meterRegistry, "global");
+        cleaner.scheduleWithFixedDelay(this::evictIdleBuckets, 1, 1, TimeUnit.MINUTES);
+    }
+
+    private Counter shedCounter(MeterRegistry meterRegistry, String scope) {
+        return Counter.builder("auction.bid.shed")
+                .description("유입 제한으로 거절된 입찰 요청 수")
+                .tag("scope", scope)
+                .register(meterRegistry);
+    }
+
+    // 입찰 요청을 처리해도 되면 true
+    public boolean tryAdmit(Long userId, Long auctionId) {
+        if (!enabled) {
+            return true;
+        }
+        if (!userBuckets.computeIfAbsent(userId + ":" + auctionId, key -> new TokenBucket(userRate, userBurst)).tryAcquire()) {
+            userShedCounter.increment();
+            return false;
+        }
+        if (!auctionBuckets.computeIfAbsent(auctionId, key -> new TokenBucket(auctionRate, auctionBurst)).tryAcquire()) {
+            auctionShedCounter.increment();
+            log.warn("경매 입찰 요청이 너무 많아 거절합니다: auctionId = {}", auctionId);
+            return false;
+        }
+        if (!globalBucket.tryAcquire()) {
+            globalShedCounter.increment();
+            log.warn("전체 입찰 요청이 너무 많아 거절합니다: auctionId = {}", auctionId);
+            return false;
+        }
+        return true;
+    }
+
+    private void evictIdleBuckets() {
+        userBuckets.values().removeIf(bucket -> bucket.isIdle(IDLE_NANOS));
+        auctionBuckets.values().removeIf(bucket -> bucket.isIdle(IDLE_NANOS));
+    }
+
+    @Override
+    public void destroy() {
+        cleaner.shutdown();
+    }
+}
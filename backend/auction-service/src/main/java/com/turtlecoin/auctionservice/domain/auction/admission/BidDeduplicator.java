@@ -0,0 +1,102 @@
+package com.turtlecoin.auctionservice.domain.auction.admission;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 클라이언트가 재전송한 입찰(같은 bidId)을 일정 시간 동안 걸러내고 처음 처리 결과를 돌려준다
+// 재전송된 입찰은 락/Redis 상태를 건드리지 않는다
+@Component
+public class BidDeduplicator implements DisposableBean {
+    private final long windowMs;
+    private final int maxEntries;
+    // "userId:bidId" -> 처리 결과
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Counter duplicateCounter;
+    private final ScheduledExecutorService cleaner = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "bid-dedupe-cleaner"));
+
+    public BidDeduplicator(MeterRegistry meterRegistry,
+                           @Value("${auction.bid.dedupe.window-ms:10000}") long windowMs,
+                           @Value("${auction.bid.dedupe.max-entries:100000}") int maxEntries) {
+        this.windowMs = windowMs;
+        this.maxEntries = maxEntries;
+        this.duplicateCounter = Counter.builder("auction.bid.duplicate")
+                .description("bidId가 같아 다시 처리하지 않은 입찰 수")
+                .register(meterRegistry);
+        cleaner.scheduleWithFixedDelay(this::evictExpired, windowMs, windowMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 처음 들어온 입찰이면 null (처리 중으로 표시), 재전송이면 이전 결과 (아직 처리 중이면 PENDING)
+    public Outcome begin(Long userId, String bidId) {
+        if (bidId == null || bidId.isBlank()) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry created = new Entry(Outcome.PENDING, now + windowMs);
+        Entry previous = entries.compute(key(userId, bidId), (key, existing) ->
+                existing == null || existing.expiresAt < now ? created : existing);
+        if (previous == created) {
+            if (entries.size() > maxEntries) {
+                // 너무 많이 쌓이면 기록하지 않는다 (중복 처리되더라도 스크립트 검증에서 걸러짐)
+                entries.remove(key(userId, bidId));
+            }
+            return null;
+        }
+        duplicateCounter.increment();
+        return previous.outcome;
+    }
+
+    public void complete(Long userId, String bidId, Outcome outcome) {
+        if (bidId == null || bidId.isBlank()) {
+            return;
+        }
+        entries.computeIfPresent(key(userId, bidId), (key, existing) -> new Entry(outcome, existing.expiresAt));
+    }
+
+    public void forget(Long userId, String bidId) {
+        if (bidId == null || bidId.isBlank()) {
+            return;
+        }
+        entries.remove(key(userId, bidId));
+    }
+
+    private String key(Long userId, String bidId) {
+        return userId + ":" + bidId;
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt < now);
+    }
+
+    @Override
+    public void destroy() {
+        cleaner.shutdown();
+    }
+
+    // code: 응답 코드 (성공이면 200), message: 실패 메시지
+    public record Outcome(String code, String message) {
+        public static final Outcome PENDING = new Outcome("102", null);
+        public static final Outcome SUCCESS = new Outcome("200", null);
+
+        public boolean isPending() {
+            return this == PENDING;
+        }
+
+        public boolean isSuccess() {
+            return this == SUCCESS;
+        }
+    }
+
+    private record Entry(Outcome outcome, long expiresAt) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.turtlecoin.auctionservice.domain.auction.admission;
+
+// 초당 ratePerSecond개씩 채워지고 최대 capacity개까지 쌓이는 토큰 버킷
+public class TokenBucket {
+    private final double capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double ratePerSecond, double capacity) {
+        this.capacity = capacity;
+        this.refillPerNano = ratePerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    public synchronized boolean tryAcquire() {
+        refill(System.nanoTime());
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+
+    // 한동안 사용되지 않아 가득 찬 버킷인지 (정리 대상)
+    public synchronized boolean isIdle(long idleNanos) {
+        long now = System.nanoTime();
+        boolean idle = now - lastRefill >= idleNanos;
+        refill(now);
+        return idle && tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
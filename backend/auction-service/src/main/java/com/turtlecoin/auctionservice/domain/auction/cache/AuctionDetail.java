@@ -0,0 +1,63 @@
+package com.turtlecoin.auctionservice.domain.auction.cache;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionPhoto;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionTag;
+import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
+import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 경매 상세 화면에서 경매 상태가 바뀌기 전까지 변하지 않는 정보 (경매 + 거북이 + 판매자)
+// 현재 입찰가/입찰자/남은 시간은 매번 Redis에서 읽는다
+@Getter
+@Builder
+@AllArgsConstructor
+public class AuctionDetail {
+    private final Long id;
+    private final Long turtleId;
+    private final String title;
+    private final Double minBid;
+    private final Double winningBid;
+    private final Long sellerId;
+    private final Long buyerId;
+    private final String sellerAddress;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final String content;
+    private final String progress;
+    private final List<String> tags;
+    private final List<String> images;
+    private final TurtleFilteredResponseDTO turtleInfo;
+    private final UserResponseDTO userInfo;
+
+    // 태그/사진은 지연 로딩이므로 영속성 컨텍스트가 열려 있을 때 호출
+    public static AuctionDetail from(Auction auction, TurtleFilteredResponseDTO turtleInfo, UserResponseDTO userInfo) {
+        return AuctionDetail.builder()
+                .id(auction.getId())
+                .turtleId(auction.getTurtleId())
+                .title(auction.getTitle())
+                .minBid(auction.getMinBid())
+                .winningBid(auction.getWinningBid())
+                .sellerId(auction.getUserId())
+                .buyerId(auction.getBuyerId())
+                .sellerAddress(auction.getSellerAddress())
+                .startTime(auction.getStartTime())
+                .endTime(auction.getEndTime())
+                .content(auction.getContent())
+                .progress(auction.getAuctionProgress().toString())
+                .tags(auction.getAuctionTags().stream()
+                        .map(AuctionTag::getTag)
+                        .toList())
+                .images(auction.getAuctionPhotos().stream()
+                        .map(AuctionPhoto::getImageAddress)
+                        .toList())
+                .turtleInfo(turtleInfo)
+                .userInfo(userInfo)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.turtlecoin.auctionservice.domain.auction.cache;
+
+import com.turtlecoin.auctionservice.domain.global.internal.LruTtlCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 경매 상세 화면의 정적인 부분 캐시 (짧은 TTL, 최대 개수 제한 LRU)
+// 경매 시작/종료처럼 상태가 바뀌면 바로 비운다
+@Component
+public class AuctionDetailCache {
+    private final LruTtlCache<Long, AuctionDetail> cache;
+
+    public AuctionDetailCache(MeterRegistry meterRegistry,
+                              @Value("${auction.detail-cache.max-size:1000}") int maxSize,
+                              @Value("${auction.detail-cache.ttl-ms:5000}") long ttlMillis) {
+        this.cache = new LruTtlCache<>("auction.detail.cache", meterRegistry, maxSize, ttlMillis);
+    }
+
+    // 없거나 만료됐으면 null
+    public AuctionDetail get(Long auctionId) {
+        return cache.get(auctionId);
+    }
+
+    public void put(AuctionDetail detail) {
+        cache.put(detail.getId(), detail);
+    }
+
+    // 트랜잭션 안에서 호출되면 커밋 후에도 한 번 더 비워서, 커밋 전에 읽힌 이전 상태가 남지 않게 한다
+    public void evict(Long auctionId) {
+        cache.remove(auctionId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(auctionId);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.turtlecoin.auctionservice.domain.auction.cache;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 경매 진행 중 변하지 않는 경매 정보
+@Getter
+@Builder
+@AllArgsConstructor
+public class AuctionMeta {
+    private final Long auctionId;
+    private final Long sellerId;
+    private final Double minBid;
+    private final LocalDateTime startTime;
+    private final Long turtleId;
+
+    public static AuctionMeta from(Auction auction) {
+        return AuctionMeta.builder()
+                .auctionId(auction.getId())
+                .sellerId(auction.getUserId())
+                .minBid(auction.getMinBid())
+                .startTime(auction.getStartTime())
+                .turtleId(auction.getTurtleId())
+                .build();
+    }
+}
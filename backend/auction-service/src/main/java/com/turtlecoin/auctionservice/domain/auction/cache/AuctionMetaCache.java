@@ -0,0 +1,50 @@
+package com.turtlecoin.auctionservice.domain.auction.cache;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.global.internal.LruTtlCache;
+import com.turtlecoin.auctionservice.global.exception.AuctionNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+// 입찰 경로에서 DB 조회를 없애기 위한 경매 메타데이터 캐시
+// 경매 시작 시 채우고, 경매 종료 시 비운다. 없으면 DB에서 읽어서 채운다.
+// 조회만 되고 종료되지 않는 경매도 있으므로 최대 개수 제한 LRU + TTL로 관리한다
+@Slf4j
+@Component
+public class AuctionMetaCache {
+    private final LruTtlCache<Long, AuctionMeta> cache;
+    private final AuctionRepository auctionRepository;
+
+    public AuctionMetaCache(AuctionRepository auctionRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${auction.meta-cache.max-size:10000}") int maxSize,
+                            @Value("${auction.meta-cache.ttl-ms:600000}") long ttlMillis) {
+        this.auctionRepository = auctionRepository;
+        this.cache = new LruTtlCache<>("auction.meta.cache", meterRegistry, maxSize, ttlMillis);
+    }
+
+    public AuctionMeta get(Long auctionId) {
+        AuctionMeta meta = cache.get(auctionId);
+        if (meta != null) {
+            return meta;
+        }
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다."));
+        return put(auction);
+    }
+
+    public AuctionMeta put(Auction auction) {
+        AuctionMeta meta = AuctionMeta.from(auction);
+        cache.put(auction.getId(), meta);
+        return meta;
+    }
+
+    public void evict(Long auctionId) {
+        if (cache.remove(auctionId)) {
+            log.info("경매 메타데이터 캐시 제거: auctionId = {}", auctionId);
+        }
+    }
+}
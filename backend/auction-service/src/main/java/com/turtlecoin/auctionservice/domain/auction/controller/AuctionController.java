@@ -7,7 +7,6 @@ import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
 import com.turtlecoin.auctionservice.domain.auction.service.AuctionService;
 import com.turtlecoin.auctionservice.domain.auction.service.BidService;
-import com.turtlecoin.auctionservice.domain.auction.service.SchedulingService;
 import com.turtlecoin.auctionservice.domain.auction.service.SseService;
 import com.turtlecoin.auctionservice.domain.s3.service.ImageUploadService;
 import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
@@ -46,7 +45,6 @@ public class AuctionController {
     private final AuctionService auctionService;
     private final BidService bidService;
     private final AuctionRepository auctionRepository;
-    private final SchedulingService schedulingService;
     private final SseService sseService;
     private final JWTUtil jwtUtil;
 
@@ -56,9 +54,16 @@ public class AuctionController {
         return ResponseEntity.status(HttpStatus.OK).body("OK");
     }
 
+    // 서버 시각 (클라이언트가 시계 차이를 보정해서 마감 시각까지 남은 시간을 직접 계산하도록)
+    @GetMapping("/time")
+    public ResponseEntity<?> getServerTime() {
+        return new ResponseEntity<>(ResponseVO.success("serverTime", System.currentTimeMillis()), HttpStatus.OK);
+    }
+
     // SSE 연결
     @GetMapping(value = "/sse/subscribe/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long id) {
+    public ResponseEntity<SseEmitter> subscribe(@PathVariable Long id,
+                                                @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         try{
             log.info(id + "로 SSE요청이 들어왔음");
 
@@ -66,7 +71,7 @@ public class AuctionController {
             responseHeader.add("Cache-Control", "no-cache");
             responseHeader.add("X-Accel-Buffering", "no");
 
-            return new ResponseEntity<>(sseService.subscribe(id), responseHeader, HttpStatus.OK);
+            return new ResponseEntity<>(sseService.subscribe(id, lastEventId), responseHeader, HttpStatus.OK);
         }catch (Exception e) {
             return null;
         }
@@ -93,7 +98,8 @@ public class AuctionController {
             @RequestParam(value = "size", required = false) String size,
             @RequestParam(value = "price", required = false) String price,
             @RequestParam(value = "progress", required = false) AuctionProgress progress,
-            @RequestParam(value = "page", defaultValue = "0") int page
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "cursor", required = false) String cursor
     ) {
 
         log.info("Gender : {}, Size : {}, Price : {}", gender, size, price, progress);
@@ -126,7 +132,7 @@ public class AuctionController {
         }
         log.info("Gender : {}, minSize : {}, maxSize : {}, minPrice : {}, maxPrice: {}", gender, minSize, maxSize, minPrice, maxPrice);
         // 기존 서비스 메서드를 호출
-        return auctionService.getFilteredAuctions(gender, minSize, maxSize, minPrice, maxPrice, progress, page);
+        return auctionService.getFilteredAuctions(gender, minSize, maxSize, minPrice, maxPrice, progress, page, cursor);
     }
 
 
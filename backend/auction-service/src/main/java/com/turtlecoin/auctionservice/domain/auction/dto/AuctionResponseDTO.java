@@ -1,5 +1,6 @@
 package com.turtlecoin.auctionservice.domain.auction.dto;
 
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionDetail;
 import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionPhoto;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionTag;
@@ -33,6 +34,9 @@ public class AuctionResponseDTO {
     private String content;
     private String progress;
     private Long remainingTime;
+    // 마감 시각(epoch ms)과 응답 시점의 서버 시각
+    private Long endAt;
+    private Long serverTime;
     private String scientificName;
     private List<String> tags;
     private String nickname;
@@ -43,7 +47,35 @@ public class AuctionResponseDTO {
     private TurtleFilteredResponseDTO turtleInfo;
     private UserResponseDTO userInfo;
 
-    public static AuctionResponseDTO from(Auction auction, TurtleFilteredResponseDTO turtleInfo, UserResponseDTO userInfo, Long remainingTime, Double nowBid, String nickname) {
+    // 캐시된 정적인 정보 + 매번 조회하는 입찰 상태
+    public static AuctionResponseDTO from(AuctionDetail detail, Long remainingTime, Long endAt, Double nowBid, String nickname) {
+        return AuctionResponseDTO.builder()
+                .id(detail.getId())
+                .turtleId(detail.getTurtleId())
+                .title(detail.getTitle())
+                .minBid(detail.getMinBid())
+                .nowBid(nowBid)
+                .winningBid(detail.getWinningBid())
+                .buyerId(detail.getBuyerId())
+                .nickname(nickname != null ? nickname : "입찰 인원 없음")
+                .sellerId(detail.getSellerId())
+                .startTime(detail.getStartTime())
+                .endTime(detail.getEndTime())
+                .content(detail.getContent())
+                .sellerAddress(detail.getSellerAddress())
+                .remainingTime(remainingTime)
+                .endAt(endAt)
+                .serverTime(System.currentTimeMillis())
+                .scientificName("다이아몬드 백 테라핀")
+                .progress(detail.getProgress())
+                .tags(detail.getTags())
+                .images(detail.getImages())
+                .turtleInfo(detail.getTurtleInfo())
+                .userInfo(detail.getUserInfo())
+                .build();
+    }
+
+    public static AuctionResponseDTO from(Auction auction, TurtleFilteredResponseDTO turtleInfo, UserResponseDTO userInfo, Long remainingTime, Long endAt, Double nowBid, String nickname) {
         log.info("Auction Tags: {}", auction.getAuctionTags());
         return AuctionResponseDTO.builder()
                 .id(auction.getId())
@@ -56,10 +88,12 @@ public class AuctionResponseDTO {
                 .nickname(nickname != null ? nickname : "입찰 인원 없음")
                 .sellerId(auction.getUserId())
                 .startTime(auction.getStartTime())
-                .endTime(LocalDateTime.now())
+                .endTime(auction.getEndTime())
                 .content(auction.getContent())
                 .sellerAddress(auction.getSellerAddress())
                 .remainingTime(remainingTime)
+                .endAt(endAt)
+                .serverTime(System.currentTimeMillis())
                 .scientificName("다이아몬드 백 테라핀")
                 .progress(auction.getAuctionProgress().toString())
                 .tags(auction.getAuctionTags().stream()
@@ -0,0 +1,21 @@
+package com.turtlecoin.auctionservice.domain.auction.dto;
+
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 경매 목록 조회 시 필요한 컬럼만 가져오는 projection
+@Getter
+@AllArgsConstructor
+public class AuctionSearchRowDTO {
+    private Long auctionId;
+    private Long sellerId;
+    private Long turtleId;
+    private String title;
+    private Double nowBid;
+    private int weight;
+    private String content;
+    private String sellerAddress;
+    private Long buyerId;
+    private AuctionProgress progress;
+}
@@ -0,0 +1,17 @@
+package com.turtlecoin.auctionservice.domain.auction.dto;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class BidHistoryDTO {
+    private Long auctionId;
+    private Long userId;
+    @Setter
+    private String nickname;
+    private Double bidAmount;
+    // epoch ms
+    private Long bidTime;
+}
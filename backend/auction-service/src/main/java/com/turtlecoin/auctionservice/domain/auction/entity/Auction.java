@@ -16,7 +16,11 @@ import java.util.stream.Collectors;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "auction")
+// 목록 조회는 (필터 컬럼, id) 순서로 keyset 페이지네이션
+@Table(name = "auction", indexes = {
+        @Index(name = "idx_auction_progress_id", columnList = "auction_progress, id"),
+        @Index(name = "idx_auction_turtle_id", columnList = "turtle_id, id")
+})
 public class Auction extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(unique=true, nullable=false)
@@ -37,6 +41,10 @@ public class Auction extends BaseEntity {
     // 현재 입찰 회원
     private Long buyerId;
 
+    // DB에 마지막으로 반영된 입찰 버전 (Redis 입찰 상태의 seq)
+    @Column(name = "bid_seq")
+    private Long bidSeq;
+
     @Column(nullable = false)
     private LocalDateTime startTime;
 
@@ -72,6 +80,10 @@ public class Auction extends BaseEntity {
         this.endTime = LocalDateTime.now().plusSeconds(30);
     }
 
+    public void updateEndTime(LocalDateTime endTime) {
+        this.endTime = endTime;
+    }
+
     public void updateStatus(AuctionProgress auctionProgress) {
         this.auctionProgress = auctionProgress;
     }
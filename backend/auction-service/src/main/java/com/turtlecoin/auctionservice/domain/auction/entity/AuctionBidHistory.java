@@ -0,0 +1,32 @@
+package com.turtlecoin.auctionservice.domain.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// 입찰 이력 (append-only)
+// 입찰 경로에서는 쓰지 않고 BidHistoryService가 JDBC batch insert로 모아서 저장한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "auction_bid_history",
+        indexes = @Index(name = "idx_bid_history_auction_amount", columnList = "auction_id, bid_amount"))
+public class AuctionBidHistory {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "auction_id", nullable = false)
+    private Long auctionId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "bid_amount", nullable = false)
+    private Double bidAmount;
+
+    @Column(name = "bid_time", nullable = false)
+    private LocalDateTime bidTime;
+}
@@ -7,6 +7,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 
@@ -23,7 +24,16 @@ public class RedissonLockFacade {
     private final BidService bidService;
     private final SimpMessagingTemplate messagingTemplate;
 
+    // 입찰 검증/갱신은 Lua 스크립트로 원자적으로 처리되므로 기본적으로 락을 잡지 않는다
+    @Value("${auction.bid.lock-enabled:false}")
+    private boolean lockEnabled;
+
     public void updateBidWithLock(Long auctionId, Long userId, Double bidAmount, Long socketUserId) throws Exception{
+        if (!lockEnabled) {
+            bidService.processBidWithRedis(auctionId, userId, bidAmount);
+            return;
+        }
+
         String destination = "/queue/auction/" + auctionId;
         RLock lock = redissonClient.getLock(auctionId.toString());
         log.info("Redis를 이용한 락 실행");
@@ -0,0 +1,106 @@
+package com.turtlecoin.auctionservice.domain.auction.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.turtlecoin.auctionservice.domain.auction.dto.AuctionSearchRowDTO;
+import com.turtlecoin.auctionservice.domain.auction.entity.QAuction;
+import com.turtlecoin.auctionservice.domain.auction.entity.QAuctionPhoto;
+import com.turtlecoin.auctionservice.domain.auction.entity.QAuctionTag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+
+// 경매 목록 조회용 쿼리
+// 엔티티를 로딩하지 않고 필요한 컬럼만 DTO로 가져오고, 태그/사진은 페이지 단위로 한 번에 조회한다
+@Repository
+@RequiredArgsConstructor
+public class AuctionQueryRepository {
+    private final JPAQueryFactory queryFactory;
+
+    public long countByFilter(Predicate predicate) {
+        QAuction auction = QAuction.auction;
+        Long count = queryFactory.select(auction.count())
+                .from(auction)
+                .where(predicate)
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    public List<AuctionSearchRowDTO> findPageByFilter(Predicate predicate, long offset, int limit) {
+        return selectRows()
+                .where(predicate)
+                .orderBy(QAuction.auction.id.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    // 커서(마지막으로 받은 경매 ID) 다음부터 limit개, 앞 페이지를 건너뛰지 않고 인덱스에서 바로 이어서 읽는다
+    public List<AuctionSearchRowDTO> findPageAfter(Predicate predicate, Long afterId, int limit) {
+        QAuction auction = QAuction.auction;
+        return selectRows()
+                .where(predicate, afterId == null ? null : auction.id.gt(afterId))
+                .orderBy(auction.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<AuctionSearchRowDTO> selectRows() {
+        QAuction auction = QAuction.auction;
+        return queryFactory.select(Projections.constructor(AuctionSearchRowDTO.class,
+                        auction.id,
+                        auction.userId,
+                        auction.turtleId,
+                        auction.title,
+                        auction.nowBid,
+                        auction.weight,
+                        auction.content,
+                        auction.sellerAddress,
+                        auction.buyerId,
+                        auction.auctionProgress))
+                .from(auction);
+    }
+
+    // 경매 ID별 태그 목록
+    public Map<Long, List<String>> findTagsByAuctionIds(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Map.of();
+        }
+        QAuctionTag auctionTag = QAuctionTag.auctionTag;
+        List<Tuple> rows = queryFactory.select(auctionTag.auction.id, auctionTag.tag)
+                .from(auctionTag)
+                .where(auctionTag.auction.id.in(auctionIds))
+                .orderBy(auctionTag.id.asc())
+                .fetch();
+        return groupByAuctionId(rows, auctionTag.auction.id, auctionTag.tag);
+    }
+
+    // 경매 ID별 사진 주소 목록
+    public Map<Long, List<String>> findImagesByAuctionIds(Collection<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Map.of();
+        }
+        QAuctionPhoto auctionPhoto = QAuctionPhoto.auctionPhoto;
+        List<Tuple> rows = queryFactory.select(auctionPhoto.auction.id, auctionPhoto.imageAddress)
+                .from(auctionPhoto)
+                .where(auctionPhoto.auction.id.in(auctionIds))
+                .orderBy(auctionPhoto.id.asc())
+                .fetch();
+        return groupByAuctionId(rows, auctionPhoto.auction.id, auctionPhoto.imageAddress);
+    }
+
+    private Map<Long, List<String>> groupByAuctionId(List<Tuple> rows,
+                                                     Expression<Long> idPath,
+                                                     Expression<String> valuePath) {
+        Map<Long, List<String>> result = new HashMap<>();
+        for (Tuple row : rows) {
+            result.computeIfAbsent(row.get(idPath), id -> new ArrayList<>()).add(row.get(valuePath));
+        }
+        return result;
+    }
+}
@@ -3,43 +3,69 @@ package com.turtlecoin.auctionservice.domain.auction.repository;
 import org.springframework.stereotype.Repository;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
 
 import com.turtlecoin.auctionservice.domain.global.internal.EmitterMapper;
 
-import lombok.AllArgsConstructor;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 
 @Repository
 public class EmitterRepository {
     // SSE는 어짜피 메모리에서 관리하기 때문에 Map써서 관리한다.
-    private final Map<Long, List<EmitterMapper>> emitters = new ConcurrentHashMap<>();
-
-    public String save(Long id, SseEmitter emitter) {
-        if(!emitters.containsKey(id)) {
-            // 조회 성능상 링크드 리스트가 나을듯
-            emitters.put(id, new CopyOnWriteArrayList<>());
-        }
-        String uuid = UUID.randomUUID().toString();
-        emitters.get(id).add(new EmitterMapper(uuid, emitter));
-        return uuid;
+    // 경매 ID -> (uuid -> 연결), 추가/삭제 모두 상수 시간 (구독자가 많아도 목록 전체를 복사하지 않음)
+    private final Map<Long, Map<String, EmitterMapper>> emitters = new ConcurrentHashMap<>();
+    private final LongAdder subscriberCount = new LongAdder();
+
+    public EmitterRepository(MeterRegistry meterRegistry) {
+        Gauge.builder("auction.sse.subscribers", subscriberCount, LongAdder::sum)
+                .description("이 인스턴스에 연결된 SSE 구독자 수")
+                .register(meterRegistry);
+    }
+
+    public EmitterMapper save(Long id, SseEmitter emitter) {
+        EmitterMapper mapper = new EmitterMapper(UUID.randomUUID().toString(), emitter);
+        // 마지막 구독자가 빠지면서 목록이 지워지는 것과 겹쳐도 유실되지 않도록 compute 안에서 추가
+        emitters.compute(id, (key, mappers) -> {
+            Map<String, EmitterMapper> result = mappers == null ? new ConcurrentHashMap<>() : mappers;
+            result.put(mapper.getUuid(), mapper);
+            return result;
+        });
+        subscriberCount.increment();
+        return mapper;
+    }
+
+    public Collection<EmitterMapper> get(Long id) {
+        Map<String, EmitterMapper> mappers = emitters.get(id);
+        return mappers == null ? Collections.emptyList() : mappers.values();
+    }
+
+    public boolean hasSubscribers(Long id) {
+        return emitters.containsKey(id);
+    }
+
+    public long countSubscribers() {
+        return subscriberCount.sum();
     }
 
-    public List<EmitterMapper> get(Long id) {
-        return emitters.getOrDefault(id, Collections.emptyList());
+    // 전체 구독자 순회 (heartbeat 등)
+    public void forEach(BiConsumer<Long, EmitterMapper> action) {
+        emitters.forEach((id, mappers) -> mappers.values().forEach(mapper -> action.accept(id, mapper)));
     }
 
+    // 완료/타임아웃/에러 콜백이 여러 번 불려도 한 번만 제거된다
     public void deleteByIdAndUUID(Long id, String uuid) {
-        List<EmitterMapper> mappers = emitters.get(id);
-        if (mappers != null) {
-            mappers.removeIf(mapper -> mapper.getUuid().equals(uuid));
-        }
+        emitters.computeIfPresent(id, (key, mappers) -> {
+            if (mappers.remove(uuid) != null) {
+                subscriberCount.decrement();
+            }
+            return mappers.isEmpty() ? null : mappers;
+        });
     }
 }
@@ -0,0 +1,139 @@
+package com.turtlecoin.auctionservice.domain.auction.scheduler;
+
+import com.turtlecoin.auctionservice.global.utils.TimeUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 진행 중인 경매의 현재 입찰가/입찰자/마감 시각을 주기적으로 auction 테이블에 반영 (write-behind)
+// 입찰 스크립트가 변경된 경매를 auction_dirty에 표시하고, 여기서 모아서 batch update 한다
+// 여러 인스턴스가 동시에 돌아도 스크립트로 원자적으로 꺼내므로 같은 경매를 중복 처리하지 않는다
+@Slf4j
+@Component
+public class AuctionBidWriteBehind implements DisposableBean {
+    private static final String AUCTION_DIRTY_KEY = "auction_dirty";
+    private static final String AUCTION_BID_KEY_PREFIX = "auction_bid_";
+    private static final int FIELDS_PER_AUCTION = 6;
+    // 입찰 스크립트가 올리는 버전(seq)으로 비교해서 이전 상태로 덮어쓰지 않는다
+    // (입찰가로 비교하면 최소 입찰가와 같은 첫 입찰이 반영되지 않음)
+    static final String UPDATE_SQL =
+            "UPDATE auction SET now_bid = ?, buyer_id = ?, end_time = COALESCE(?, end_time), bid_seq = ? " +
+            "WHERE id = ? AND (bid_seq IS NULL OR bid_seq < ?)";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DefaultRedisScript<List<Object>> claimDirtyAuctionsScript;
+    private final JdbcTemplate jdbcTemplate;
+    private final Timer lagTimer;
+
+    private final long flushIntervalMs;
+    private final long maxLagMs;
+    private final int batchSize;
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "auction-write-behind"));
+
+    public AuctionBidWriteBehind(RedisTemplate<String, Object> redisTemplate,
+                                 DefaultRedisScript<List<Object>> claimDirtyAuctionsScript,
+                                 JdbcTemplate jdbcTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.bid.write-behind.flush-interval-ms:1000}") long flushIntervalMs,
+                                 @Value("${auction.bid.write-behind.max-lag-ms:5000}") long maxLagMs,
+                                 @Value("${auction.bid.write-behind.batch-size:200}") int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.claimDirtyAuctionsScript = claimDirtyAuctionsScript;
+        this.jdbcTemplate = jdbcTemplate;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxLagMs = maxLagMs;
+        this.batchSize = batchSize;
+        this.lagTimer = Timer.builder("auction.bid.write-behind.lag")
+                .description("입찰이 Redis에 반영된 뒤 DB에 반영되기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("입찰 정보 DB 반영 실패", e);
+        }
+    }
+
+    // 한 주기에 한 배치를 반영하고, 밀린 항목이 max-lag를 넘으면 따라잡을 때까지 계속 반영
+    void flush() {
+        int flushed;
+        long oldestLag;
+        do {
+            long now = System.currentTimeMillis();
+            List<Object> claimed = redisTemplate.execute(claimDirtyAuctionsScript,
+                    List.of(AUCTION_DIRTY_KEY),
+                    String.valueOf(batchSize),
+                    AUCTION_BID_KEY_PREFIX);
+            if (claimed == null || claimed.isEmpty()) {
+                return;
+            }
+
+            List<Object[]> args = new ArrayList<>(claimed.size() / FIELDS_PER_AUCTION);
+            List<Long> dirtySinces = new ArrayList<>(claimed.size() / FIELDS_PER_AUCTION);
+            oldestLag = 0;
+            for (int i = 0; i < claimed.size(); i += FIELDS_PER_AUCTION) {
+                Long auctionId = Long.valueOf(claimed.get(i).toString());
+                Long buyerId = Long.valueOf(claimed.get(i + 1).toString());
+                Double bidAmount = Double.valueOf(claimed.get(i + 2).toString());
+                String endAt = claimed.get(i + 3).toString();
+                Timestamp endTime = endAt.isEmpty() ? null
+                        : Timestamp.valueOf(TimeUtils.toLocalDateTime((long) Double.parseDouble(endAt)));
+                long dirtySince = (long) Double.parseDouble(claimed.get(i + 4).toString());
+                long seq = Long.parseLong(claimed.get(i + 5).toString());
+                args.add(new Object[]{bidAmount, buyerId, endTime, seq, auctionId, seq});
+                dirtySinces.add(dirtySince);
+                oldestLag = Math.max(oldestLag, now - dirtySince);
+            }
+
+            try {
+                jdbcTemplate.batchUpdate(UPDATE_SQL, args);
+            } catch (Exception e) {
+                restore(args, dirtySinces);
+                throw e;
+            }
+            for (Long dirtySince : dirtySinces) {
+                lagTimer.record(now - dirtySince, TimeUnit.MILLISECONDS);
+            }
+            flushed = args.size();
+            if (oldestLag > maxLagMs) {
+                log.warn("입찰 정보 DB 반영이 지연되고 있습니다: lag = {}ms, batch = {}", oldestLag, flushed);
+            }
+        } while (flushed >= batchSize && oldestLag > maxLagMs);
+    }
+
+    // DB 반영에 실패한 경매는 다음 주기에 다시 반영하도록 표시
+    private void restore(List<Object[]> args, List<Long> dirtySinces) {
+        for (int i = 0; i < args.size(); i++) {
+            redisTemplate.opsForZSet().addIfAbsent(AUCTION_DIRTY_KEY, args.get(i)[4].toString(), dirtySinces.get(i));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+    }
+}
@@ -0,0 +1,234 @@
+package com.turtlecoin.auctionservice.domain.auction.scheduler;
+
+import com.turtlecoin.auctionservice.domain.auction.service.SendService;
+import com.turtlecoin.auctionservice.domain.global.internal.TimingWheel;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BroadcastRelay;
+import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.*;
+
+// 경매 마감 스케줄러
+// 마감 시각은 Redis sorted set(auction_deadlines)에 저장하고, 마감 처리는 원자적으로 꺼낸 한 인스턴스만 수행한다.
+// 이 인스턴스에서 시작/입찰된 경매는 타이밍 휠로 ms 단위로 마감하고,
+// 다른 인스턴스의 경매나 재시작으로 놓친 경매는 주기적인 스윕으로 마감한다.
+// 꺼낸 마감은 마감 처리가 커밋될 때까지 처리 중 목록(auction_closing, score = claim 기한)에 남아서,
+// 실패하면 retry-delay-ms 뒤에, 처리 도중 인스턴스가 죽으면 claim 기한이 지난 뒤에 다시 마감한다.
+// 스윕은 Redis 왕복이 있어 타이머 tick이 밀리지 않도록 별도 스레드에서 돌린다.
+@Slf4j
+@Component
+public class AuctionCloseScheduler implements DisposableBean {
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_CLOSING_KEY = "auction_closing";
+    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DefaultRedisScript<List<Object>> claimDeadlineScript;
+    private final DefaultRedisScript<List<Object>> claimDueDeadlinesScript;
+    private final DefaultRedisScript<Long> finishDeadlineScript;
+    private final SendService sendService;
+    private final BroadcastRelay broadcastRelay;
+    private final Timer closeLagTimer;
+
+    private final long tickMs;
+    private final long sweepIntervalMs;
+    private final int sweepBatchSize;
+    private final long claimMs;
+    private final long retryDelayMs;
+
+    private final TimingWheel<Long> timingWheel;
+    // 경매별 가장 최근 마감 시각 (연장 전에 등록된 휠 항목을 걸러내기 위함)
+    private final Map<Long, Long> localDeadlines = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "auction-close-timer"));
+    private final ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "auction-close-sweeper"));
+    private final ExecutorService closeExecutor;
+
+    public AuctionCloseScheduler(RedisTemplate<String, Object> redisTemplate,
+                                 DefaultRedisScript<List<Object>> claimDeadlineScript,
+                                 DefaultRedisScript<List<Object>> claimDueDeadlinesScript,
+                                 DefaultRedisScript<Long> finishDeadlineScript,
+                                 SendService sendService,
+                                 BroadcastRelay broadcastRelay,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.close.tick-ms:10}") long tickMs,
+                                 @Value("${auction.close.wheel-size:512}") int wheelSize,
+                                 @Value("${auction.close.sweep-interval-ms:1000}") long sweepIntervalMs,
+                                 @Value("${auction.close.sweep-batch-size:100}") int sweepBatchSize,
+                                 @Value("${auction.close.claim-ms:60000}") long claimMs,
+                                 @Value("${auction.close.retry-delay-ms:5000}") long retryDelayMs,
+                                 @Value("${auction.close.threads:2}") int closeThreads) {
+        this.redisTemplate = redisTemplate;
+        this.claimDeadlineScript = claimDeadlineScript;
+        this.claimDueDeadlinesScript = claimDueDeadlinesScript;
+        this.finishDeadlineScript = finishDeadlineScript;
+        this.sendService = sendService;
+        this.broadcastRelay = broadcastRelay;
+        this.tickMs = tickMs;
+        this.sweepIntervalMs = sweepIntervalMs;
+        this.sweepBatchSize = sweepBatchSize;
+        this.claimMs = claimMs;
+        this.retryDelayMs = retryDelayMs;
+        this.timingWheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        this.closeExecutor = Executors.newFixedThreadPool(closeThreads, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "auction-close-" + count++);
+            }
+        });
+        this.closeLagTimer = Timer.builder("auction.close.lag")
+                .description("경매 마감 시각부터 실제 마감 처리까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("auction.close.pending", localDeadlines, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        timer.scheduleAtFixedRate(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalMs, sweepIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 마감 시각을 Redis에 기록하고 로컬 타이머에도 등록
+    public void schedule(Long auctionId, long deadlineMs) {
+        redisTemplate.opsForZSet().add(AUCTION_DEADLINES_KEY, auctionId.toString(), deadlineMs);
+        scheduleLocal(auctionId, deadlineMs);
+    }
+
+    // 입찰 스크립트가 이미 Redis에 기록한 마감 시각을 로컬 타이머에만 등록
+    public void scheduleLocal(Long auctionId, long deadlineMs) {
+        localDeadlines.merge(auctionId, deadlineMs, Math::max);
+        boolean added;
+        synchronized (timingWheel) {
+            added = timingWheel.add(auctionId, deadlineMs);
+        }
+        if (!added) {
+            closeExecutor.execute(() -> tryClose(auctionId));
+        }
+    }
+
+    private void tick() {
+        try {
+            long now = System.currentTimeMillis();
+            List<Long> fired = new ArrayList<>();
+            synchronized (timingWheel) {
+                timingWheel.advanceClock(now, fired::add);
+            }
+            for (Long auctionId : fired) {
+                Long latestDeadline = localDeadlines.get(auctionId);
+                // 이미 마감됐거나, 입찰로 연장되어 더 늦은 항목이 휠에 있으면 무시
+                if (latestDeadline == null || latestDeadline > now) {
+                    continue;
+                }
+                closeExecutor.execute(() -> tryClose(auctionId));
+            }
+        } catch (Exception e) {
+            log.error("경매 마감 타이머 처리 중 오류 발생", e);
+        }
+    }
+
+    // 다른 인스턴스가 등록했거나 놓친 마감을 Redis에서 가져와 처리
+    private void sweep() {
+        try {
+            long now = System.currentTimeMillis();
+            // 후보를 먼저 읽고, 스크립트가 마감 키를 KEYS로 받아 원자적으로 다시 확인하며 꺼낸다
+            Set<Object> candidates = redisTemplate.opsForZSet().rangeByScore(AUCTION_DEADLINES_KEY, 0, now, 0, sweepBatchSize);
+            List<String> keys = new ArrayList<>(List.of(AUCTION_DEADLINES_KEY, AUCTION_CLOSING_KEY));
+            List<Object> args = new ArrayList<>(List.of(String.valueOf(now), String.valueOf(claimMs)));
+            if (candidates != null) {
+                for (Object candidate : candidates) {
+                    keys.add(AUCTION_END_KEY_PREFIX + candidate);
+                    args.add(candidate.toString());
+                }
+            }
+            // 후보가 없어도 기한이 지난 claim을 되돌리기 위해 호출한다
+            List<Object> due = redisTemplate.execute(claimDueDeadlinesScript, keys, args.toArray());
+            if (due == null) {
+                return;
+            }
+            for (int i = 0; i + 1 < due.size(); i += 2) {
+                Long auctionId = Long.parseLong(due.get(i).toString());
+                long deadline = (long) Double.parseDouble(due.get(i + 1).toString());
+                localDeadlines.remove(auctionId);
+                closeExecutor.execute(() -> close(auctionId, deadline));
+            }
+        } catch (Exception e) {
+            log.error("경매 마감 스윕 중 오류 발생", e);
+        }
+    }
+
+    private void tryClose(Long auctionId) {
+        try {
+            List<Object> result = redisTemplate.execute(claimDeadlineScript,
+                    List.of(AUCTION_DEADLINES_KEY, AUCTION_CLOSING_KEY, AUCTION_END_KEY_PREFIX + auctionId),
+                    auctionId.toString(), String.valueOf(System.currentTimeMillis()), String.valueOf(claimMs));
+            String status = result.get(0).toString();
+            switch (status) {
+                case "CLAIMED" -> {
+                    localDeadlines.remove(auctionId);
+                    close(auctionId, (long) Double.parseDouble(result.get(1).toString()));
+                }
+                // 다른 인스턴스의 입찰로 마감이 연장된 경우 다시 등록
+                case "PENDING" -> scheduleLocal(auctionId, (long) Double.parseDouble(result.get(1).toString()));
+                // 다른 인스턴스가 이미 마감함
+                default -> localDeadlines.remove(auctionId);
+            }
+        } catch (Exception e) {
+            // 스윕에서 다시 처리된다
+            log.error("경매 마감 확인 중 오류 발생: auctionId = {}", auctionId, e);
+        }
+    }
+
+    private void close(Long auctionId, long deadlineMs) {
+        closeLagTimer.record(Math.max(0, System.currentTimeMillis() - deadlineMs), TimeUnit.MILLISECONDS);
+        // null이면 마감 완료, 값이 있으면 그 시각에 다시 마감
+        Long retryAt = null;
+        try {
+            sendService.endAuction(auctionId);
+        } catch (Exception e) {
+            ResponseVO<Object> response = ResponseVO.failure("50000", "예상치 못한 문제가 발생했습니다.");
+            broadcastRelay.publish("/sub/auction/" + auctionId, response);
+
+            retryAt = System.currentTimeMillis() + retryDelayMs;
+            log.error("경매 종료 처리 중 오류 발생, {}ms 후 다시 시도합니다: auctionId = {}, error = {}",
+                    retryDelayMs, auctionId, e.getMessage());
+        }
+        finish(auctionId, retryAt);
+    }
+
+    // 마감 처리가 커밋된 뒤(또는 실패를 기록한 뒤)에만 처리 중 목록에서 지운다
+    // 여기서 실패해도 claim 기한이 지나면 스윕이 다시 꺼내 확인하므로 마감이 유실되지 않는다
+    private void finish(Long auctionId, Long retryAt) {
+        try {
+            redisTemplate.execute(finishDeadlineScript, List.of(AUCTION_DEADLINES_KEY, AUCTION_CLOSING_KEY),
+                    auctionId.toString(), retryAt == null ? "" : retryAt.toString());
+        } catch (Exception e) {
+            log.warn("경매 마감 정리 실패: auctionId = {}, error = {}", auctionId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        timer.shutdownNow();
+        sweeper.shutdownNow();
+        closeExecutor.shutdown();
+        closeExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,312 @@
+package com.turtlecoin.auctionservice.domain.auction.scheduler;
+
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMeta;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMetaCache;
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.service.BidService;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import com.turtlecoin.auctionservice.global.utils.TimeUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+// 경매 시작 스케줄러
+// 시작 작업은 Redis sorted set(auction_start_jobs, score = 시작 시각)에 저장해서 재시작해도 사라지지 않고,
+// lease를 가진 인스턴스 하나만 작업을 꺼내 실행한다 (꺼내기는 스크립트로 원자적으로 처리해서 lease가 넘어가는 순간에도 중복 실행되지 않음)
+// 꺼낸 작업은 시작이 커밋될 때까지 처리 중 목록(auction_start_processing, score = claim 기한)에 남아 있어서
+// 처리 도중 인스턴스가 죽어도 기한이 지나면 다시 실행되고, 시도 횟수도 Redis에 저장한다
+// 주기적으로 DB의 시작 전 경매와 작업 목록을 맞춰서 Redis에 반영되지 못한 작업도 복구한다
+// 서버가 내려가 있는 동안 지난 시작 작업은 다시 뜨면 바로 실행하고,
+// 시작 직전(prewarm-ms)에는 경매 정보/판매자 닉네임 캐시를 미리 채워둔다
+@Slf4j
+@Component
+public class AuctionStartScheduler implements DisposableBean {
+    private static final String AUCTION_START_JOBS_KEY = "auction_start_jobs";
+    private static final String AUCTION_START_PROCESSING_KEY = "auction_start_processing";
+    private static final String AUCTION_START_SCHEDULED_AT_KEY = "auction_start_scheduled_at";
+    private static final String AUCTION_START_ATTEMPTS_KEY = "auction_start_attempts";
+    private static final List<String> JOB_KEYS = List.of(AUCTION_START_JOBS_KEY, AUCTION_START_PROCESSING_KEY,
+            AUCTION_START_SCHEDULED_AT_KEY, AUCTION_START_ATTEMPTS_KEY);
+    private static final String LEADER_KEY = "auction_start_leader";
+    // 마지막으로 DB와 작업 목록을 맞춘 시각 표시 (TTL = reconcile 주기, 여러 인스턴스가 번갈아 리더가 돼도 주기마다 한 번만)
+    private static final String RECONCILE_MARKER_KEY = "auction_start_jobs_reconciled";
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DefaultRedisScript<List<Object>> claimDueStartJobsScript;
+    private final DefaultRedisScript<Long> finishStartJobScript;
+    private final DefaultRedisScript<Long> reconcileStartJobsScript;
+    private final DefaultRedisScript<Long> acquireLeaseScript;
+    private final BidService bidService;
+    private final AuctionRepository auctionRepository;
+    private final AuctionMetaCache auctionMetaCache;
+    private final UserService userService;
+    private final Timer startLagTimer;
+
+    private final long pollIntervalMs;
+    private final long leaseMs;
+    private final long claimMs;
+    private final long reconcileIntervalMs;
+    private final long prewarmMs;
+    private final int batchSize;
+    private final long retryDelayMs;
+    private final int maxAttempts;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Set<Long> prewarmed = ConcurrentHashMap.newKeySet();
+    private volatile boolean leader;
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "auction-start-scheduler"));
+    private final ExecutorService startExecutor;
+
+    public AuctionStartScheduler(RedisTemplate<String, Object> redisTemplate,
+                                 DefaultRedisScript<List<Object>> claimDueStartJobsScript,
+                                 DefaultRedisScript<Long> finishStartJobScript,
+                                 DefaultRedisScript<Long> reconcileStartJobsScript,
+                                 DefaultRedisScript<Long> acquireLeaseScript,
+                                 BidService bidService,
+                                 AuctionRepository auctionRepository,
+                                 AuctionMetaCache auctionMetaCache,
+                                 UserService userService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.start.poll-interval-ms:500}") long pollIntervalMs,
+                                 @Value("${auction.start.lease-ms:5000}") long leaseMs,
+                                 @Value("${auction.start.claim-ms:60000}") long claimMs,
+                                 @Value("${auction.start.reconcile-interval-ms:600000}") long reconcileIntervalMs,
+                                 @Value("${auction.start.prewarm-ms:30000}") long prewarmMs,
+                                 @Value("${auction.start.batch-size:100}") int batchSize,
+                                 @Value("${auction.start.retry-delay-ms:5000}") long retryDelayMs,
+                                 @Value("${auction.start.max-attempts:5}") int maxAttempts,
+                                 @Value("${auction.start.threads:4}") int startThreads) {
+        this.redisTemplate = redisTemplate;
+        this.claimDueStartJobsScript = claimDueStartJobsScript;
+        this.finishStartJobScript = finishStartJobScript;
+        this.reconcileStartJobsScript = reconcileStartJobsScript;
+        this.acquireLeaseScript = acquireLeaseScript;
+        this.bidService = bidService;
+        this.auctionRepository = auctionRepository;
+        this.auctionMetaCache = auctionMetaCache;
+        this.userService = userService;
+        this.pollIntervalMs = pollIntervalMs;
+        this.leaseMs = leaseMs;
+        this.claimMs = claimMs;
+        this.reconcileIntervalMs = reconcileIntervalMs;
+        this.prewarmMs = prewarmMs;
+        this.batchSize = batchSize;
+        this.retryDelayMs = retryDelayMs;
+        this.maxAttempts = maxAttempts;
+        this.startExecutor = Executors.newFixedThreadPool(startThreads, new ThreadFactory() {
+            private int count = 0;
+
+            @Override
+            public synchronized Thread newThread(Runnable runnable) {
+                return new Thread(runnable, "auction-start-" + count++);
+            }
+        });
+        this.startLagTimer = Timer.builder("auction.start.lag")
+                .description("경매 시작 예정 시각부터 실제 시작까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poller.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 경매 시작 작업 등록 (트랜잭션 안이면 커밋된 뒤에 등록해서 롤백된 경매가 시작되지 않게 한다)
+    public void schedule(Long auctionId, LocalDateTime startTime) {
+        long startAt = TimeUtils.toEpochMillis(startTime);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addJob(auctionId, startAt);
+                }
+            });
+            return;
+        }
+        addJob(auctionId, startAt);
+    }
+
+    private void addJob(Long auctionId, long startAt) {
+        redisTemplate.opsForZSet().add(AUCTION_START_JOBS_KEY, auctionId.toString(), startAt);
+        log.info("경매 시작 예약: auctionId = {}, startAt = {}", auctionId, startAt);
+    }
+
+    private void poll() {
+        try {
+            Long acquired = redisTemplate.execute(acquireLeaseScript, List.of(LEADER_KEY),
+                    instanceId, String.valueOf(leaseMs));
+            boolean nowLeader = acquired != null && acquired == 1L;
+            if (nowLeader != leader) {
+                log.info(nowLeader ? "경매 시작 스케줄러 리더가 되었습니다: {}" : "경매 시작 스케줄러 리더가 아닙니다: {}", instanceId);
+                leader = nowLeader;
+            }
+            if (!leader) {
+                return;
+            }
+            reconcile();
+            long now = System.currentTimeMillis();
+            prewarm(now);
+            claimDueJobs(now);
+        } catch (Exception e) {
+            log.error("경매 시작 스케줄러 처리 중 오류 발생", e);
+        }
+    }
+
+    // reconcile 주기마다 DB의 시작 전 경매 중 작업 목록/처리 중 목록에 없는 경매를 다시 넣는다
+    // 이미 지난 시작 시각도 그대로 넣어서 바로 시작되게 한다
+    private void reconcile() {
+        Boolean due = redisTemplate.opsForValue().setIfAbsent(RECONCILE_MARKER_KEY, instanceId,
+                reconcileIntervalMs, TimeUnit.MILLISECONDS);
+        if (!Boolean.TRUE.equals(due)) {
+            return;
+        }
+        try {
+            List<Auction> auctions = auctionRepository.findByAuctionProgress(AuctionProgress.BEFORE_AUCTION);
+            long added = 0;
+            for (int from = 0; from < auctions.size(); from += RECONCILE_BATCH_SIZE) {
+                List<String> args = new ArrayList<>();
+                for (Auction auction : auctions.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, auctions.size()))) {
+                    if (auction.getStartTime() != null) {
+                        args.add(auction.getId().toString());
+                        args.add(String.valueOf(TimeUtils.toEpochMillis(auction.getStartTime())));
+                    }
+                }
+                if (!args.isEmpty()) {
+                    Long count = redisTemplate.execute(reconcileStartJobsScript,
+                            List.of(AUCTION_START_JOBS_KEY, AUCTION_START_PROCESSING_KEY), args.toArray());
+                    added += count == null ? 0 : count;
+                }
+            }
+            if (added > 0) {
+                log.warn("작업 목록에 없던 시작 전 경매를 다시 등록했습니다: {}건", added);
+            }
+        } catch (Exception e) {
+            // 다음 poll에서 다시 시도하도록 표시 제거
+            redisTemplate.delete(RECONCILE_MARKER_KEY);
+            throw e;
+        }
+    }
+
+    private void prewarm(long now) {
+        if (prewarmMs <= 0) {
+            return;
+        }
+        Set<Object> upcoming = redisTemplate.opsForZSet().rangeByScore(AUCTION_START_JOBS_KEY, now, now + prewarmMs);
+        if (upcoming == null) {
+            return;
+        }
+        for (Object member : upcoming) {
+            Long auctionId = Long.valueOf(member.toString());
+            if (prewarmed.add(auctionId)) {
+                startExecutor.execute(() -> prewarm(auctionId));
+            }
+        }
+    }
+
+    // 시작 직후 몰리는 입장/입찰 요청이 DB/main-service를 거치지 않도록 캐시를 미리 채운다
+    private void prewarm(Long auctionId) {
+        try {
+            AuctionMeta meta = auctionMetaCache.get(auctionId);
+            userService.prefetchNicknames(List.of(meta.getSellerId()));
+            log.info("경매 시작 전 캐시 준비 완료: auctionId = {}", auctionId);
+        } catch (Exception e) {
+            log.warn("경매 시작 전 캐시 준비 실패: auctionId = {}, error = {}", auctionId, e.getMessage());
+        }
+    }
+
+    private void claimDueJobs(long now) {
+        List<Object> due = redisTemplate.execute(claimDueStartJobsScript, JOB_KEYS,
+                String.valueOf(now), String.valueOf(batchSize), String.valueOf(claimMs));
+        if (due == null) {
+            return;
+        }
+        for (int i = 0; i + 2 < due.size(); i += 3) {
+            Long auctionId = Long.valueOf(due.get(i).toString());
+            long startAt = (long) Double.parseDouble(due.get(i + 1).toString());
+            long attempt = Long.parseLong(due.get(i + 2).toString());
+            startExecutor.execute(() -> startAuction(auctionId, startAt, attempt));
+        }
+    }
+
+    private void startAuction(Long auctionId, long startAt, long attempt) {
+        prewarmed.remove(auctionId);
+        // null이면 작업 종료, 값이 있으면 그 시각에 다시 시도
+        Long retryAt = null;
+        try {
+            Optional<Auction> auction = auctionRepository.findById(auctionId);
+            // 삭제됐거나 이미 시작된 경매는 건너뜀
+            if (auction.isEmpty() || auction.get().getAuctionProgress() != AuctionProgress.BEFORE_AUCTION) {
+                log.info("시작 대상이 아닌 경매입니다: auctionId = {}", auctionId);
+            } else {
+                bidService.startAuction(auctionId);
+                startLagTimer.record(Math.max(0, System.currentTimeMillis() - startAt), TimeUnit.MILLISECONDS);
+                log.info("경매 시작: auctionId = {}", auctionId);
+            }
+        } catch (Exception e) {
+            if (attempt >= maxAttempts) {
+                // 다음 reconcile 때 다시 작업 목록에 들어간다
+                log.error("경매 시작 실패, 재시도하지 않습니다: auctionId = {}, attempt = {}", auctionId, attempt, e);
+            } else {
+                retryAt = System.currentTimeMillis() + retryDelayMs;
+                log.error("경매 시작 실패, {}ms 후 다시 시도합니다: auctionId = {}, attempt = {}", retryDelayMs, auctionId, attempt, e);
+            }
+        }
+        finish(auctionId, retryAt);
+    }
+
+    // 시작이 커밋된 뒤(또는 실패를 기록한 뒤)에만 처리 중 목록에서 지운다
+    // 여기서 실패해도 claim 기한이 지나면 다시 꺼내져 상태를 확인하므로 시작이 유실되지 않는다
+    private void finish(Long auctionId, Long retryAt) {
+        try {
+            redisTemplate.execute(finishStartJobScript, JOB_KEYS,
+                    auctionId.toString(), retryAt == null ? "" : retryAt.toString());
+        } catch (Exception e) {
+            log.warn("경매 시작 작업 정리 실패: auctionId = {}, error = {}", auctionId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        poller.shutdownNow();
+        startExecutor.shutdown();
+        startExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        // 다음 인스턴스가 바로 이어받을 수 있도록 lease 반납
+        if (leader) {
+            try {
+                Object owner = redisTemplate.opsForValue().get(LEADER_KEY);
+                if (instanceId.equals(owner)) {
+                    redisTemplate.delete(LEADER_KEY);
+                }
+            } catch (Exception e) {
+                log.warn("경매 시작 스케줄러 lease 반납 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionDetail;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionDetailCache;
+import com.turtlecoin.auctionservice.domain.auction.dto.AuctionResponseDTO;
+import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.feign.MainClient;
+import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
+import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import com.turtlecoin.auctionservice.global.exception.AuctionNotFoundException;
+import com.turtlecoin.auctionservice.global.exception.DependencyTimeoutException;
+import com.turtlecoin.auctionservice.global.exception.TurtleNotFoundException;
+import com.turtlecoin.auctionservice.global.exception.UserNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 경매 상세 조회
+// 서로 의존하지 않는 조회(입찰 상태, 마감 시각, 거북이, 판매자)를 전용 스레드 풀에서 동시에 보내고 결과를 합친다
+// 경매/거북이/판매자 정보는 짧은 TTL 캐시에서 먼저 찾는다
+@Slf4j
+@Service
+public class AuctionDetailService implements DisposableBean {
+    private static final String AUCTION_BID_KEY = "auction_bid_";
+
+    private final AuctionRepository auctionRepository;
+    private final MainClient mainClient;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final BidService bidService;
+    private final UserService userService;
+    private final AuctionDetailCache auctionDetailCache;
+    private final long timeoutMs;
+    private final ThreadPoolExecutor executor;
+
+    public AuctionDetailService(AuctionRepository auctionRepository,
+                                MainClient mainClient,
+                                RedisTemplate<String, Object> redisTemplate,
+                                BidService bidService,
+                                UserService userService,
+                                AuctionDetailCache auctionDetailCache,
+                                @Value("${auction.detail.threads:16}") int threads,
+                                @Value("${auction.detail.queue-capacity:1000}") int queueCapacity,
+                                @Value("${auction.detail.timeout-ms:3000}") long timeoutMs) {
+        this.auctionRepository = auctionRepository;
+        this.mainClient = mainClient;
+        this.redisTemplate = redisTemplate;
+        this.bidService = bidService;
+        this.userService = userService;
+        this.auctionDetailCache = auctionDetailCache;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        // 풀이 가득 차면 요청 스레드에서 직접 실행 (순차 조회로 돌아갈 뿐 요청을 버리지 않음)
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "auction-detail-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public AuctionResponseDTO getDetail(Long auctionId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        // 입찰 상태/마감 시각은 경매 정보와 관계없이 바로 조회 시작
+        CompletableFuture<Long> endAt = CompletableFuture.supplyAsync(() -> bidService.getAuctionEndAt(auctionId), executor);
+        CompletableFuture<BidState> bidState = CompletableFuture.supplyAsync(() -> loadBidState(auctionId), executor);
+
+        AuctionDetail detail = auctionDetailCache.get(auctionId);
+        if (detail == null) {
+            detail = loadDetail(auctionId, deadline);
+            auctionDetailCache.put(detail);
+        }
+
+        // 마감 시각으로 남은 시간 계산 (진행 중이 아니면 기존과 같이 -2)
+        Long auctionEndAt = await(endAt, deadline);
+        Long remainingTime = auctionEndAt == null ? -2L : Math.max(0, auctionEndAt - System.currentTimeMillis());
+        BidState state = await(bidState, deadline);
+        Double nowBid = state.bidAmount() == null ? detail.getMinBid() : state.bidAmount();
+        return AuctionResponseDTO.from(detail, remainingTime, auctionEndAt, nowBid, state.nickname());
+    }
+
+    private AuctionDetail loadDetail(Long auctionId, long deadline) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다: " + auctionId));
+        CompletableFuture<TurtleFilteredResponseDTO> turtle =
+                CompletableFuture.supplyAsync(() -> mainClient.getTurtle(auction.getTurtleId()), executor);
+        CompletableFuture<UserResponseDTO> seller =
+                CompletableFuture.supplyAsync(() -> mainClient.getUserById(auction.getUserId()), executor);
+        // main-service 응답을 기다리는 동안 태그/사진(지연 로딩)을 읽어 둔다
+        auction.getAuctionTags().size();
+        auction.getAuctionPhotos().size();
+
+        TurtleFilteredResponseDTO turtleInfo = await(turtle, deadline);
+        if (turtleInfo == null) {
+            log.warn("거북이 정보를 찾을 수 없습니다: turtleId={}", auction.getTurtleId());
+            throw new TurtleNotFoundException("Main-service에서 거북이정보를 찾을 수 없습니다.");
+        }
+        UserResponseDTO userInfo = await(seller, deadline);
+        if (userInfo == null) {
+            log.warn("사용자 정보를 찾을 수 없습니다: UserId={}", auction.getUserId());
+            throw new UserNotFoundException("Main-service에서 사용자정보를 찾을 수 없습니다.");
+        }
+        return AuctionDetail.from(auction, turtleInfo, userInfo);
+    }
+
+    // 현재 입찰가와 최고 입찰자 닉네임 (입찰이 없으면 둘 다 null)
+    private BidState loadBidState(Long auctionId) {
+        List<Object> values = redisTemplate.opsForHash()
+                .multiGet(AUCTION_BID_KEY + auctionId, List.of("bidAmount", "userId"));
+        Object bidAmount = values == null ? null : values.get(0);
+        if (bidAmount == null) {
+            return new BidState(null, null);
+        }
+        Object bidUserId = values.get(1);
+        String nickname = bidUserId == null ? null : userService.getUserNicknameById(Long.valueOf(bidUserId.toString()));
+        return new BidState(Double.parseDouble(bidAmount.toString()), nickname);
+    }
+
+    private <T> T await(CompletableFuture<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new DependencyTimeoutException("경매 상세 조회 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private record BidState(Double bidAmount, String nickname) {
+    }
+}
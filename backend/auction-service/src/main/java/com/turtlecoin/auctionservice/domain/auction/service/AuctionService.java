@@ -1,12 +1,14 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
 import com.querydsl.core.BooleanBuilder;
-import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.turtlecoin.auctionservice.domain.auction.dto.*;
 import com.turtlecoin.auctionservice.domain.auction.entity.*;
 import com.turtlecoin.auctionservice.domain.auction.facade.RedissonLockFacade;
+import com.turtlecoin.auctionservice.domain.auction.repository.AuctionQueryRepository;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.scheduler.AuctionStartScheduler;
 import com.turtlecoin.auctionservice.domain.s3.service.ImageUploadService;
+import com.turtlecoin.auctionservice.domain.turtle.service.AuctionTurtleService;
 import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
 import com.turtlecoin.auctionservice.feign.dto.TurtleResponseDTO;
 import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
@@ -15,12 +17,11 @@ import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
 import com.turtlecoin.auctionservice.feign.service.UserService;
 import com.turtlecoin.auctionservice.global.exception.*;
 import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import com.turtlecoin.auctionservice.global.utils.CursorCodec;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.AmqpConnectException;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.http.HttpStatus;
@@ -34,27 +35,30 @@ import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuctionService {
+    // 경매 목록 한 페이지 크기
+    private static final int PAGE_SIZE = 20;
 
     private final RedisTemplate<String, Object> redisTemplate;
 
     private final AuctionRepository auctionRepository;
     private final ImageUploadService imageUploadService;  // ImageUploadService도 주입합니다.
     private final MainClient mainClient;
-    private final JPAQueryFactory queryFactory;
+    private final AuctionQueryRepository auctionQueryRepository;
     private final RedissonLockFacade redissonLockFacade;
-    private final SchedulingService schedulingService;
+    private final AuctionStartScheduler auctionStartScheduler;
+    private final AuctionDetailService auctionDetailService;
     private final BidService bidService;
     private final SseService sseService;
     private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
     private static final String AUCTION_BID_KEY = "auction_bid_";
     private final UserService userService;
+    private final AuctionTurtleService auctionTurtleService;
 
     // 경매 등록
     @Transactional
@@ -70,6 +74,8 @@ public class AuctionService {
             validateTurtleNotAlreadyRegistered(registerAuctionDTO.getTurtleId());
             log.info("세번째 검증");
             validateDate(registerAuctionDTO.getStartTime());
+            // 목록 필터용 거북이 속성 사본 저장
+            auctionTurtleService.register(registerAuctionDTO.getTurtleId());
 
             log.info("검증 끝");
 
@@ -85,9 +91,8 @@ public class AuctionService {
             // 경매 저장
             Auction auction = auctionRepository.save(registerAuctionDTO.toEntity());
             log.info("경매 저장");
-            // 동적 스케줄링 수행
-            Consumer<Long> startAuction = bidService::startAuction;
-            schedulingService.scheduleTask(auction.getId(), startAuction, auction.getStartTime());
+            // 경매 시작 작업 등록 (커밋 후 Redis 작업 목록에 저장, 리더 인스턴스가 실행)
+            auctionStartScheduler.schedule(auction.getId(), auction.getStartTime());
             log.info("스케줄링 완료");
             // 이미지 업로드 처리
             if (images != null && !images.isEmpty()) {
@@ -205,58 +210,16 @@ public class AuctionService {
     // 경매 ID로 경매 조회
     public ResponseEntity<?> getAuctionById(Long auctionId) {
         try {
-            Auction auction = auctionRepository.findById(auctionId)
-                    .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다: " + auctionId));
-
-            TurtleFilteredResponseDTO turtle = mainClient.getTurtle(auction.getTurtleId());
-
-            if (turtle == null) {
-                log.warn("거북이 정보를 찾을 수 없습니다: turtleId={}", auction.getTurtleId());
-                throw new TurtleNotFoundException("Main-service에서 거북이정보를 찾을 수 없습니다.");
-            }
-            log.info("TurtleID: {}",turtle.getId());
-            UserResponseDTO user = mainClient.getUserById(auction.getUserId());
-            if (turtle == null) {
-                log.warn("사용자 정보를 찾을 수 없습니다: UserId={}", auction.getUserId());
-                throw new UserNotFoundException("Main-service에서 사용자정보를 찾을 수 없습니다.");
-            }
-            log.info("UserID: {}",user.getUserId());
-
-            String key = AUCTION_END_KEY_PREFIX+auction;
-            // null값일 때 어떻게 하지?
-            Long remainingTime = redisTemplate.getExpire(AUCTION_END_KEY_PREFIX+auctionId, TimeUnit.MILLISECONDS);
-
-//            // 종료됐거나, 시작하지 않았을 때
-//            if (remainingTime == -2) {
-//                if (auction.getEndTime().isAfter(LocalDateTime.now())) {
-//                    remainingTime = 0L;
-//                } else {
-//                    // 아직 시작 안한 경매
-//                    remainingTime = 0L;
-//                }
-//            }
-
-            Object bidAmountObj = redisTemplate.opsForHash().get(key, "bidAmount");
-            String nickname;
-            Double nowBid;
-            if (bidAmountObj == null) {
-                nowBid = auction.getMinBid();
-                log.info("redis에 입찰 가격이 없을 때");
-                nickname = null;
-            } else {
-                nowBid = Double.parseDouble(bidAmountObj.toString());  // Object를 Double로 변환
-                Long bidUserId = (long) redisTemplate.opsForHash().get(key, "userId");
-                nickname = userService.getUserNicknameById(bidUserId);
-                log.info("redis에 입찰 가격이 있을 때");
-            }
-            log.info("RemainingTime : {}", remainingTime);
-            AuctionResponseDTO data = AuctionResponseDTO.from(auction, turtle, user, remainingTime, nowBid, nickname);
+            // 입찰 상태/거북이/판매자 조회를 동시에 보내고 정적인 정보는 짧은 TTL 캐시 사용
+            AuctionResponseDTO data = auctionDetailService.getDetail(auctionId);
             return new ResponseEntity<>(ResponseVO.success("경매가 정상적으로 조회되었습니다.", "auction", data), HttpStatus.OK);
         } catch (AuctionNotFoundException e) {
             return new ResponseEntity<>(ResponseVO.failure("400", e.getMessage()), HttpStatus.BAD_REQUEST);
 
         } catch (FeignException e) {
           return new ResponseEntity<>(ResponseVO.failure("503", "Main-Service가 응답하지 않습니다."+e.getMessage()), HttpStatus.INTERNAL_SERVER_ERROR);
+        } catch (DependencyTimeoutException e) {
+            return new ResponseEntity<>(ResponseVO.failure("503", e.getMessage()), HttpStatus.SERVICE_UNAVAILABLE);
         } catch(Exception e){
             return new ResponseEntity<>(ResponseVO.failure("500","경매 조회 과정 중에 서버 에러가 발생하였습니다."), HttpStatus.INTERNAL_SERVER_ERROR);
         }
@@ -300,9 +263,20 @@ public class AuctionService {
 
     }
 
+    // 판매자 정보 일괄 조회
+    private Map<Long, UserResponseDTO> getSellers(List<AuctionSearchRowDTO> rows) {
+        List<Long> sellerIds = rows.stream().map(AuctionSearchRowDTO::getSellerId).distinct().toList();
+        if (sellerIds.isEmpty()) {
+            return Map.of();
+        }
+        return mainClient.getUsersByIds(sellerIds).stream()
+                .collect(Collectors.toMap(UserResponseDTO::getUserId, user -> user, (first, second) -> first));
+    }
+
     // 경매 필터링 후 조회
-    public ResponseEntity<?> getFilteredAuctions(Gender gender, Double minSize, Double maxSize, Double minPrice, Double maxPrice, AuctionProgress progress, int page) {
+    public ResponseEntity<?> getFilteredAuctions(Gender gender, Double minSize, Double maxSize, Double minPrice, Double maxPrice, AuctionProgress progress, int page, String cursor) {
         try {
+            Long afterId = CursorCodec.decode(cursor, CursorCodec.ID_ORDER);
             QAuction auction = QAuction.auction;
 
             BooleanBuilder whereClause = new BooleanBuilder();
@@ -323,56 +297,71 @@ public class AuctionService {
                 whereClause.and(auction.auctionProgress.eq(progress));
             }
 
-            // main-service에서 필터링 엔드포인트 열어둘 것
-            // 무게로 거북이 필터링
-
-            List<TurtleFilteredResponseDTO> filteredTurtles = mainClient.getFilteredTurtles(gender, minSize, maxSize);
-
-            // filteredTurtles 리스트를 Map으로 변환 (turtleId를 키로 사용)
-            Map<Long, TurtleFilteredResponseDTO> turtleMap = filteredTurtles.stream()
-                    .collect(Collectors.toMap(TurtleFilteredResponseDTO::getId, turtle -> turtle));
-
-            long totalAuctions = queryFactory.selectFrom(auction)
-                    .where(whereClause.and(auction.turtleId.in(turtleMap.keySet())))
-                    .fetch()
-                    .size();
+            // 성별/무게로 거북이 필터링 (로컬 거북이 속성 사본에서 서브쿼리로 처리)
+            whereClause.and(auctionTurtleService.turtleIdFilter(auction.turtleId, gender, minSize, maxSize));
+
+            // 끝나지 않은 경매 중 거북이가 폐사했거나 다른 사람에게 양도된 경매는 뺀다
+            whereClause.and(auction.auctionProgress.in(AuctionProgress.BEFORE_AUCTION, AuctionProgress.DURING_AUCTION)
+                    .and(auctionTurtleService.unavailableTurtleFilter(auction.turtleId, auction.userId)).not());
+
+            // cursor가 있으면 keyset 페이지네이션 (전체 개수를 세지 않고, 한 개 더 읽어서 다음 페이지 여부 판단)
+            // 없으면 기존 page 방식
+            List<AuctionSearchRowDTO> rows;
+            Integer totalPages = null;
+            boolean hasNext;
+            if (cursor != null) {
+                rows = auctionQueryRepository.findPageAfter(whereClause, afterId, PAGE_SIZE + 1);
+                hasNext = rows.size() > PAGE_SIZE;
+                if (hasNext) {
+                    rows = rows.subList(0, PAGE_SIZE);
+                }
+            } else {
+                long totalAuctions = auctionQueryRepository.countByFilter(whereClause);
+                rows = totalAuctions == 0
+                        ? List.of()
+                        : auctionQueryRepository.findPageByFilter(whereClause, (long) page * PAGE_SIZE, PAGE_SIZE);
+                totalPages = (int) Math.ceil((double) totalAuctions / PAGE_SIZE);
+                hasNext = page + 1 < totalPages;
+            }
 
-            List<Auction> auctions = queryFactory.selectFrom(auction)
-                    .where(whereClause.and(auction.turtleId.in(turtleMap.keySet())))
-                    .offset(page * 20L)
-                    .limit(20)
-                    .fetch();
+            // 페이지에 포함된 경매의 태그/사진, 거북이 학명, 판매자 정보를 한 번에 조회
+            List<Long> auctionIds = rows.stream().map(AuctionSearchRowDTO::getAuctionId).toList();
+            Map<Long, List<String>> tags = auctionQueryRepository.findTagsByAuctionIds(auctionIds);
+            Map<Long, List<String>> images = auctionQueryRepository.findImagesByAuctionIds(auctionIds);
+            Map<Long, String> scientificNames = auctionTurtleService.findScientificNames(
+                    rows.stream().map(AuctionSearchRowDTO::getTurtleId).filter(Objects::nonNull).collect(Collectors.toSet()));
+            Map<Long, UserResponseDTO> sellers = getSellers(rows);
 
             // DetailAuctionResponseDTO 리스트 생성
-            List<DetailAuctionResponseDTO> dtos = auctions.stream()
+            List<DetailAuctionResponseDTO> dtos = rows.stream()
                     .map(a -> {
-                        UserResponseDTO userInfo = mainClient.getUserById(a.getUserId());
-                        TurtleFilteredResponseDTO turtleInfo = turtleMap.get(a.getTurtleId());
+                        UserResponseDTO userInfo = sellers.get(a.getSellerId());
                         return DetailAuctionResponseDTO.builder()
-                                .auctionId(a.getId())
-                                .sellerId(a.getUserId())
-                                .sellerName(userInfo.getName())
+                                .auctionId(a.getAuctionId())
+                                .sellerId(a.getSellerId())
+                                .sellerName(userInfo != null ? userInfo.getName() : null)
                                 .turtleId(a.getTurtleId())
-                                .scientificName("임시 거북이 학명!")
+                                .scientificName(scientificNames.get(a.getTurtleId()))
                                 .title(a.getTitle())
                                 .price(a.getNowBid())
                                 .weight(a.getWeight())
                                 .content(a.getContent())
-                                .sellerImageUrl(userInfo.getProfileImage())
+                                .sellerImageUrl(userInfo != null ? userInfo.getProfileImage() : null)
                                 .sellerAddress(a.getSellerAddress())
                                 .buyerId(a.getBuyerId())
-                                .progress(a.getAuctionProgress().toString())
-                                .auctionTag(a.getAuctionTags().stream().map(AuctionTag::getTag).collect(Collectors.toList()))
-                                .auctionImage(a.getAuctionPhotos().stream().map(AuctionPhoto::getImageUrl).collect(Collectors.toList()))
+                                .progress(a.getProgress().toString())
+                                .auctionTag(tags.getOrDefault(a.getAuctionId(), List.of()))
+                                .auctionImage(images.getOrDefault(a.getAuctionId(), List.of()))
                                 .build();
                     })
                     .toList();
 
-            int totalPages = (int) Math.ceil((double) totalAuctions / 20);
-
             Map<String, Object> data = new HashMap<>();
             data.put("auctions", dtos);
-            data.put("total_pages", totalPages);
+            if (totalPages != null) {
+                data.put("total_pages", totalPages);
+            }
+            data.put("next_cursor", hasNext && !rows.isEmpty() ? CursorCodec.encode(CursorCodec.ID_ORDER, rows.get(rows.size() - 1).getAuctionId()) : null);
             log.info("dtos : {}", dtos);
             return new ResponseEntity<>(ResponseVO.success("경매가 성공적으로 조회 되었습니다.", "data", data), HttpStatus.OK);
         } catch (NumberFormatException e) {
@@ -411,18 +400,4 @@ public class AuctionService {
 //        redissonLockFacade.updateBidWithLock(auctionId, userId, newBidAmount);
 //    }
 
-    // 서버 재시작시 스케줄링 다시 등록하기
-    @EventListener(ApplicationReadyEvent.class)
-    @Transactional
-    public void scheduleReload(){
-        List<Auction> acutions = auctionRepository.findByAuctionProgress(AuctionProgress.BEFORE_AUCTION);
-
-        for(Auction auction : acutions){
-            if(auction.getStartTime().isAfter(LocalDateTime.now())){
-                Consumer<Long> startAuction = bidService::startAuction;
-                schedulingService.scheduleTask(auction.getId(), startAuction, auction.getStartTime());
-            }
-        }
-    }
-
 }
\ No newline at end of file
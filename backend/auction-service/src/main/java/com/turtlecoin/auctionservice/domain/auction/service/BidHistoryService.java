@@ -0,0 +1,273 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.domain.auction.dto.BidHistoryDTO;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 경매별 입찰 이력
+// 입찰 경로에서는 메모리(ring, 큐)에만 기록하고, DB 저장은 별도 스레드가 주기적으로 batch insert 한다
+@Slf4j
+@Service
+public class BidHistoryService implements DisposableBean {
+    private static final String INSERT_SQL =
+            "INSERT INTO auction_bid_history (auction_id, user_id, bid_amount, bid_time) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_RECENT_SQL =
+            "SELECT auction_id, user_id, bid_amount, bid_time FROM auction_bid_history " +
+            "WHERE auction_id = ? ORDER BY bid_amount DESC LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserService userService;
+    private final int ringSize;
+    private final int maxReplay;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxAttempts;
+
+    // 경매별 최근 입찰 (오래된 것부터)
+    private final Map<Long, Deque<BidHistoryDTO>> rings = new ConcurrentHashMap<>();
+    // 아직 DB에 저장되지 않은 입찰
+    private final Queue<PendingBid> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingSize = new AtomicInteger();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "bid-history-flusher"));
+    // DB/닉네임 조회가 필요한 이력 조회용 (STOMP inbound 스레드를 막지 않도록)
+    private final ThreadPoolExecutor loader;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public BidHistoryService(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             UserService userService,
+                             MeterRegistry meterRegistry,
+                             @Value("${auction.bid.history.ring-size:50}") int ringSize,
+                             @Value("${auction.bid.history.max-replay:50}") int maxReplay,
+                             @Value("${auction.bid.history.flush-interval-ms:500}") long flushIntervalMs,
+                             @Value("${auction.bid.history.batch-size:500}") int batchSize,
+                             @Value("${auction.bid.history.queue-capacity:100000}") int queueCapacity,
+                             @Value("${auction.bid.history.max-attempts:5}") int maxAttempts,
+                             @Value("${auction.bid.history.load-threads:4}") int loadThreads,
+                             @Value("${auction.bid.history.load-queue-capacity:1000}") int loadQueueCapacity) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.userService = userService;
+        this.ringSize = ringSize;
+        this.maxReplay = maxReplay;
+        this.batchSize = batchSize;
+        this.queueCapacity = queueCapacity;
+        this.maxAttempts = maxAttempts;
+        this.droppedCounter = Counter.builder("auction.bid.history.dropped")
+                .description("저장 큐가 가득 차서 DB에 기록하지 못한 입찰 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("auction.bid.history.failed")
+                .description("재시도 한도를 넘겨 DB에 기록하지 못하고 버린 입찰 수")
+                .register(meterRegistry);
+        meterRegistry.gauge("auction.bid.history.pending", pendingSize);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.loader = new ThreadPoolExecutor(loadThreads, loadThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(loadQueueCapacity),
+                runnable -> new Thread(runnable, "bid-history-loader-" + threadNumber.incrementAndGet()));
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 입찰 성공 시 호출 (메모리에만 기록하므로 입찰 처리 지연이 거의 없다)
+    public void record(Long auctionId, Long userId, String nickname, Double bidAmount) {
+        BidHistoryDTO entry = BidHistoryDTO.builder()
+                .auctionId(auctionId)
+                .userId(userId)
+                .nickname(nickname)
+                .bidAmount(bidAmount)
+                .bidTime(System.currentTimeMillis())
+                .build();
+
+        Deque<BidHistoryDTO> ring = rings.computeIfAbsent(auctionId, id -> new ArrayDeque<>(ringSize));
+        synchronized (ring) {
+            if (ring.size() >= ringSize) {
+                ring.pollFirst();
+            }
+            ring.addLast(entry);
+        }
+
+        if (pendingSize.incrementAndGet() > queueCapacity) {
+            pendingSize.decrementAndGet();
+            droppedCounter.increment();
+            log.warn("입찰 이력 저장 큐가 가득 찼습니다: auctionId = {}, bidAmount = {}", auctionId, bidAmount);
+            return;
+        }
+        pending.offer(new PendingBid(entry, 0));
+    }
+
+    // 최근 입찰 limit개 (최신순)
+    // 다른 인스턴스에서 처리된 입찰은 로컬 ring에 없으므로 DB에 저장된 이력과 합친다
+    // 한 경매의 입찰가는 항상 증가하므로 입찰가로 정렬/중복 제거가 가능하다
+    public List<BidHistoryDTO> getRecentBids(Long auctionId, int limit) {
+        int size = Math.min(limit, maxReplay);
+        if (size <= 0) {
+            return List.of();
+        }
+
+        TreeMap<Double, BidHistoryDTO> merged = copyRing(auctionId);
+        if (merged.size() < size) {
+            jdbcTemplate.query(SELECT_RECENT_SQL, rs -> {
+                double bidAmount = rs.getDouble("bid_amount");
+                merged.putIfAbsent(bidAmount, BidHistoryDTO.builder()
+                        .auctionId(rs.getLong("auction_id"))
+                        .userId(rs.getLong("user_id"))
+                        .bidAmount(bidAmount)
+                        .bidTime(rs.getTimestamp("bid_time").getTime())
+                        .build());
+            }, auctionId, size);
+        }
+
+        List<BidHistoryDTO> result = merged.values().stream().limit(size).toList();
+        fillNicknames(result);
+        return result;
+    }
+
+    // getRecentBids와 같지만, 로컬 ring만으로 채울 수 없으면(DB 조회 또는 닉네임 조회 필요) 조회 스레드에서 처리한다
+    // 조회 스레드가 모두 바쁘면 빈 이력으로 완료한다
+    public CompletableFuture<List<BidHistoryDTO>> getRecentBidsAsync(Long auctionId, int limit) {
+        int size = Math.min(limit, maxReplay);
+        if (size <= 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        TreeMap<Double, BidHistoryDTO> merged = copyRing(auctionId);
+        if (merged.size() >= size && merged.values().stream().limit(size).allMatch(entry -> entry.getNickname() != null)) {
+            return CompletableFuture.completedFuture(merged.values().stream().limit(size).toList());
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> getRecentBids(auctionId, limit), loader);
+        } catch (RejectedExecutionException e) {
+            log.warn("입찰 이력 조회 대기열이 가득 차서 이력 없이 응답합니다: auctionId = {}", auctionId);
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
+    // ring의 항목은 다른 스레드와 공유되므로 잠금 안에서 복사본을 만들어 쓴다 (닉네임은 복사본에만 채움)
+    private TreeMap<Double, BidHistoryDTO> copyRing(Long auctionId) {
+        TreeMap<Double, BidHistoryDTO> merged = new TreeMap<>(Comparator.reverseOrder());
+        Deque<BidHistoryDTO> ring = rings.get(auctionId);
+        if (ring != null) {
+            synchronized (ring) {
+                ring.forEach(entry -> merged.put(entry.getBidAmount(), entry.toBuilder().build()));
+            }
+        }
+        return merged;
+    }
+
+    // 경매가 끝나면 ring 정리 (DB 이력은 유지)
+    public void evict(Long auctionId) {
+        rings.remove(auctionId);
+    }
+
+    private void fillNicknames(List<BidHistoryDTO> entries) {
+        List<Long> missing = entries.stream()
+                .filter(entry -> entry.getNickname() == null)
+                .map(BidHistoryDTO::getUserId)
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        Map<Long, String> nicknames = userService.prefetchNicknames(missing);
+        for (BidHistoryDTO entry : entries) {
+            if (entry.getNickname() == null) {
+                entry.setNickname(nicknames.getOrDefault(entry.getUserId(), "알 수 없는 사용자"));
+            }
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("입찰 이력 저장 실패", e);
+        }
+    }
+
+    void flush() {
+        while (!pending.isEmpty()) {
+            List<PendingBid> batch = new ArrayList<>(batchSize);
+            PendingBid entry;
+            while (batch.size() < batchSize && (entry = pending.poll()) != null) {
+                batch.add(entry);
+            }
+            try {
+                insert(batch);
+                pendingSize.addAndGet(-batch.size());
+            } catch (Exception e) {
+                // 저장 실패한 배치는 다음 주기에 다시 시도하고, 재시도 한도를 넘긴 입찰은 한 건씩 저장해서 문제 행만 버린다
+                List<PendingBid> exhausted = new ArrayList<>();
+                for (PendingBid failed : batch) {
+                    if (failed.attempts() + 1 >= maxAttempts) {
+                        exhausted.add(failed);
+                    } else {
+                        pending.add(new PendingBid(failed.bid(), failed.attempts() + 1));
+                    }
+                }
+                insertOneByOne(exhausted);
+                throw e;
+            }
+        }
+    }
+
+    // 배치 전체를 한 트랜잭션으로 저장 (일부만 저장된 채로 실패하면 재시도 때 중복 저장되므로)
+    private void insert(List<PendingBid> batch) {
+        transactionTemplate.executeWithoutResult(status ->
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, pendingBid) -> {
+                    BidHistoryDTO bid = pendingBid.bid();
+                    ps.setLong(1, bid.getAuctionId());
+                    ps.setLong(2, bid.getUserId());
+                    ps.setDouble(3, bid.getBidAmount());
+                    ps.setTimestamp(4, new Timestamp(bid.getBidTime()));
+                }));
+    }
+
+    private void insertOneByOne(List<PendingBid> entries) {
+        for (PendingBid entry : entries) {
+            try {
+                insert(List.of(entry));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("입찰 이력 저장 재시도 한도 초과로 버립니다: auctionId = {}, userId = {}, bidAmount = {}, error = {}",
+                        entry.bid().getAuctionId(), entry.bid().getUserId(), entry.bid().getBidAmount(), e.getMessage());
+            }
+            pendingSize.decrementAndGet();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        loader.shutdown();
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushSafely();
+    }
+
+    // attempts: 저장에 실패한 횟수
+    private record PendingBid(BidHistoryDTO bid, int attempts) {
+    }
+}
@@ -1,17 +1,26 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMeta;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionDetailCache;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMetaCache;
 import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.scheduler.AuctionCloseScheduler;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BidBroadcastCoalescer;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BroadcastRelay;
 import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import com.turtlecoin.auctionservice.domain.websocket.ticker.AuctionTicker;
 import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
 import com.turtlecoin.auctionservice.feign.service.UserService;
 import com.turtlecoin.auctionservice.global.exception.*;
 import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import com.turtlecoin.auctionservice.global.utils.TimeUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,7 +41,21 @@ public class BidService {
     private static final String AUCTION_BID_KEY = "auction_bid_";
     private final UserService userService;
     private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    private static final String AUCTION_DEADLINES_KEY = "auction_deadlines";
+    private static final String AUCTION_DIRTY_KEY = "auction_dirty";
+    private static final String AUCTION_PROXY_KEY_PREFIX = "auction_proxy_";
+    private static final String BID_MODE = "BID";
+    private static final String PROXY_MODE = "PROXY";
+    private static final long AUCTION_EXTEND_MILLIS = (long) (30.1 * 1000);
     private final SseService sseService;
+    private final DefaultRedisScript<List<Object>> bidCommitScript;
+    private final AuctionMetaCache auctionMetaCache;
+    private final AuctionDetailCache auctionDetailCache;
+    private final AuctionCloseScheduler auctionCloseScheduler;
+    private final BroadcastRelay broadcastRelay;
+    private final BidBroadcastCoalescer bidBroadcastCoalescer;
+    private final BidHistoryService bidHistoryService;
+    private final AuctionTicker auctionTicker;
 
     // 경매 시작 로직... 그런데 어떻게 경매가 시작된줄 알 수 있을까?
     @Transactional
@@ -41,150 +64,134 @@ public class BidService {
 
         String key = AUCTION_END_KEY_PREFIX + auctionId;
 
-        redisTemplate.opsForValue().set(key, "ready");
+        // 마감 키에는 마감 시각(epoch ms)을 저장하고, TTL은 마감 시각에 맞춘다
+        long endAt = System.currentTimeMillis() + AUCTION_EXTEND_MILLIS;
+        redisTemplate.opsForValue().set(key, String.valueOf(endAt), AUCTION_EXTEND_MILLIS, TimeUnit.MILLISECONDS); // TTL 30초 설정
+        // 마감 스케줄 등록
+        auctionCloseScheduler.schedule(auctionId, endAt);
 
-        redisTemplate.expire(key, (long) (30.1*1000), TimeUnit.MILLISECONDS); // TTL 30초 설정
-
-        Long remainingTime = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
         auction.updateStatus(AuctionProgress.DURING_AUCTION);
+        auction.updateEndTime(TimeUtils.toLocalDateTime(endAt));
+        auctionMetaCache.put(auction);
+        // 상세 화면 캐시에 시작 전 상태가 남지 않도록
+        auctionDetailCache.evict(auctionId);
+        auctionTicker.addLive(auctionId);
         // sse로 경매 시작을 알림
         sseService.notify(auction.getId(), "Auction Started");
     }
 
     // 입찰 가격 갱신
-    @Transactional
+    // 검증, 입찰 정보 갱신, 마감 시간 연장, 자동 입찰 처리를 Lua 스크립트 한 번으로 원자적으로 처리한다
+    // DB를 사용하지 않으므로 트랜잭션(커넥션 획득)도 열지 않는다
     public void processBidWithRedis(Long auctionId, Long userId, Double bidAmount)
             throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException, AuctionAlreadyFinishedException, BidNotValidException {
-        // 1. 경매 시작 및 상태 확인
-//        startAuctionIfNotStarted(auctionId);
-
-        // 2. 현재 경매와 입찰 정보를 확인하고 유효성을 검증
-        Auction auction = getAuction(auctionId);
-
-        if (auction.getUserId().equals(userId)) {
-            throw new BidNotValidException("자신의 경매에 입찰할 수 없습니다");
-        }
-
-        Long currentUserId = getCurrentBidUserId(auctionId);
-        // 최신 입찰가 가져오기
-        Double currentBid = getCurrentBidAmount(auctionId, auction);
+        // 1. 경매 정보 확인 (캐시)
+        AuctionMeta auction = auctionMetaCache.get(auctionId);
 
-//        // 3. 입찰 검증 로직
-        validateBid(auctionId, userId, bidAmount, currentUserId, currentBid);
+        // 2. 다음 입찰가 계산
+        Double newBidAmount = bidAmount + calculateBidIncrement(bidAmount);
 
-        // 4. 입찰 정보 갱신
-        Double newBidAmount = updateBidInfo(auctionId, userId, bidAmount);
-        log.info("입찰 정보 갱신 완료");
-        // 5. 클라이언트에게 최신 입찰 정보 전송
-        notifyClientWithBidInfo(auctionId, userId, bidAmount, newBidAmount);
-        log.info("클라이언트에게 입찰 정보 전송 완료");
+        // 3. 검증 + 입찰 정보 갱신 + 마감 시간 연장 + 자동 입찰
+        List<Object> result = executeBidCommit(auctionId, userId, auction,
+                bidAmount.toString(), newBidAmount.toString(), BID_MODE, "");
+        handleBidCommitResult(userId, bidAmount, result);
+        applyBidCommit(auctionId, result);
     }
 
-    private Auction getAuction(Long auctionId) {
-        return auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다."));
-    }
-
-    private void startAuctionIfNotStarted(Long auctionId) {
-        Auction auction = getAuction(auctionId);
-        if (auction.getAuctionProgress() == AuctionProgress.BEFORE_AUCTION) {
-            log.info("경매 강제로 시작시키기");
-            startAuction(auctionId);
-            return;
+    // 자동 입찰(최대 금액) 등록
+    // 최고 입찰자가 아니면 현재 다음 입찰가로 바로 입찰하고, 이후 다른 입찰이 들어오면 최대 금액까지 대신 입찰한다
+    // 반환값: 가격이 바뀌었으면 true, 최대 금액만 갱신됐으면 false
+    public boolean registerProxyBid(Long auctionId, Long userId, Double maxBid)
+            throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException, BidNotValidException {
+        AuctionMeta auction = auctionMetaCache.get(auctionId);
+
+        List<Object> result = executeBidCommit(auctionId, userId, auction,
+                "", "", PROXY_MODE, maxBid.toString());
+        if ("PROXY_SET".equals(result.get(0).toString())) {
+            log.info("자동 입찰 최대 금액 갱신: auctionId = {}, userId = {}", auctionId, userId);
+            return false;
         }
-        log.info("경매 이미 진행중");
+        handleBidCommitResult(userId, maxBid, result);
+        applyBidCommit(auctionId, result);
+        return true;
     }
 
-    private Long getCurrentBidUserId(Long auctionId) {
-        String redisKey = AUCTION_BID_KEY + auctionId;
-        Map<Object, Object> currentBidData = redisTemplate.opsForHash().entries(redisKey);
-        if (!currentBidData.isEmpty()) {
-            return Long.parseLong(currentBidData.get("userId").toString());
-        }
-        return null;  // 입찰자가 없으면 null 반환
+    private List<Object> executeBidCommit(Long auctionId, Long userId, AuctionMeta auction,
+                                          String bidAmount, String nextBid, String mode, String maxBid) {
+        return redisTemplate.execute(bidCommitScript,
+                List.of(AUCTION_BID_KEY + auctionId, AUCTION_END_KEY_PREFIX + auctionId, AUCTION_DEADLINES_KEY,
+                        AUCTION_DIRTY_KEY, AUCTION_PROXY_KEY_PREFIX + auctionId),
+                userId.toString(),
+                auction.getSellerId().toString(),
+                bidAmount,
+                nextBid,
+                String.valueOf(AUCTION_EXTEND_MILLIS),
+                auctionId.toString(),
+                String.valueOf(System.currentTimeMillis()),
+                mode,
+                maxBid,
+                auction.getMinBid().toString());
     }
 
-    private Double getCurrentBidAmount(Long auctionId, Auction auction) {
-        String redisKey = AUCTION_BID_KEY + auctionId;
-        Map<Object, Object> currentBidData = redisTemplate.opsForHash().entries(redisKey);
-        Double currentBid = 0D; // 기본값은 0원
-        if (!currentBidData.isEmpty()) {
-            return parseBidAmount(currentBidData.get("bidAmount"));
-        }
-        return currentBid;
-    }
+    // 스크립트 결과: {'OK', 연장 시간, 마감 시각, 다음 입찰가, 입찰자, 입찰가, ...}
+    // 자동 입찰로 여러 번 가격이 올라가도 클라이언트에게는 최종 결과만 한 번 전송한다
+    private void applyBidCommit(Long auctionId, List<Object> result) {
+        Double remainingTime = Double.parseDouble(result.get(1).toString());
+        long endAt = (long) Double.parseDouble(result.get(2).toString());
+        Double nextBid = Double.parseDouble(result.get(3).toString());
+        log.info("입찰 정보 갱신 완료");
 
-    private Double parseBidAmount(Object bidAmountObj) {
-        if (bidAmountObj instanceof String) {
-            return Double.parseDouble((String) bidAmountObj);
-        } else if (bidAmountObj instanceof Double) {
-            return (Double) bidAmountObj;
-        }
-        throw new IllegalArgumentException("Invalid bid amount type");
-    }
+        // 연장된 마감 시각을 로컬 타이머에 등록
+        auctionCloseScheduler.scheduleLocal(auctionId, endAt);
 
-    private void validateBid(Long auctionId, Long userId, Double bidAmount, Long currentUserId, Double currentBid)
-        throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException{
-        // 경매 남은시간 확인
-        log.info("경매 남은시간 검증 후 에러 던져주는 로직");
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
-        Long remainingTime = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
-        log.info("redis key : {}remaining time : {}", key, remainingTime);
-        if (currentUserId != null && currentUserId.equals(userId)) {
-            String destination = "/user/" + userId + "/queue/auction";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.failure("Bid", "400", "자신의 입찰에 재입찰 할 수 없습니다."));
-            throw new SameUserBidException("자신의 입찰에 재입찰할 수 없습니다: userId = " + userId);
+        int last = result.size() - 2;
+        for (int i = 4; i < last; i += 2) {
+            bidHistoryService.record(auctionId, Long.valueOf(result.get(i).toString()), null,
+                    Double.parseDouble(result.get(i + 1).toString()));
         }
-
-        if (bidAmount <= currentBid) {
-            String destination = "/user/" + userId + "/queue/auction";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.failure("Bid", "400", "현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다."));
-            throw new WrongBidAmountException("현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다: currentBid = " +
-                    currentBid + ", bidAmount = " + bidAmount);
+        if (last > 4) {
+            log.info("자동 입찰 처리: auctionId = {}, 자동 입찰 횟수 = {}", auctionId, (last - 4) / 2);
         }
 
-        // 키가 만료됐으면
-        if (remainingTime < 0) {
-            String destination = "/user/" + userId + "/queue/auction";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.failure("Bid", "422", "입찰 가능한 시간이 아닙니다."));
-            throw new AuctionTimeNotValidException("입찰 가능한 시간이 아닙니다.");
-        } else {
-            // 입찰시간 갱신
-            redisTemplate.expire(key, (long) (30.1*1000), TimeUnit.MILLISECONDS); // TTL 30초 재설정
-        }
+        // 4. 클라이언트에게 최신 입찰 정보 전송
+        Long leaderId = Long.valueOf(result.get(last).toString());
+        Double bidAmount = Double.parseDouble(result.get(last + 1).toString());
+        notifyClientWithBidInfo(auctionId, leaderId, bidAmount, nextBid, remainingTime, endAt);
+        log.info("클라이언트에게 입찰 정보 전송 완료");
     }
 
-    private Double updateBidInfo(Long auctionId, Long userId, Double bidAmount) {
-        log.info("입찰 갱신 로직 진입");
-        Double bidIncrement = calculateBidIncrement(bidAmount);
-        Double newBidAmount = bidAmount + bidIncrement;
-
-        String redisKey = AUCTION_BID_KEY + auctionId;
-        Map<String, Object> bidData = new HashMap<>();
-        bidData.put("userId", userId.toString());
-        bidData.put("remainingTime", redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS).toString());
-        bidData.put("bidAmount", bidAmount.toString());
-        bidData.put("nextBid", newBidAmount.toString());
-
-        redisTemplate.opsForHash().putAll(redisKey, bidData);
-
-        // 마감시간 갱신하는 로직 검증할 때 갱신하도록 변경
-//        resetAuctionEndTime(auctionId);
-        log.info("경매 마감 시간 갱신");
-
-        return newBidAmount;
+    // 스크립트 결과가 실패면 예외를 던진다
+    private void handleBidCommitResult(Long userId, Double bidAmount, List<Object> result)
+            throws SameUserBidException, WrongBidAmountException, AuctionTimeNotValidException, BidNotValidException {
+        String status = result.get(0).toString();
+        String destination = "/user/" + userId + "/queue/auction";
+        switch (status) {
+            case "OK":
+                return;
+            case "SELLER":
+                throw new BidNotValidException("자신의 경매에 입찰할 수 없습니다");
+            case "SAME_USER":
+                messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                        ResponseVO.failure("Bid", "400", "자신의 입찰에 재입찰 할 수 없습니다."));
+                throw new SameUserBidException("자신의 입찰에 재입찰할 수 없습니다: userId = " + userId);
+            case "WRONG_AMOUNT":
+                messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                        ResponseVO.failure("Bid", "400", "현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다."));
+                throw new WrongBidAmountException("현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다: currentBid = " +
+                        result.get(1) + ", bidAmount = " + bidAmount);
+            case "TIME_INVALID":
+                messagingTemplate.convertAndSendToUser(userId.toString(), destination,
+                        ResponseVO.failure("Bid", "422", "입찰 가능한 시간이 아닙니다."));
+                throw new AuctionTimeNotValidException("입찰 가능한 시간이 아닙니다.");
+            default:
+                throw new IllegalStateException("알 수 없는 입찰 처리 결과입니다: " + status);
+        }
     }
 
-    private void notifyClientWithBidInfo(Long auctionId, Long userId, Double bidAmount, Double newBidAmount) {
-        String userNickname = userService.getUserNicknameById(userId);
+    private void notifyClientWithBidInfo(Long auctionId, Long userId, Double bidAmount, Double newBidAmount, Double remainingTime, long endAt) {
+        // 입찰 처리 경로에서는 로컬 캐시만 본다 (없으면 브로드캐스트 시점에 채움, 이력은 조회 시 채움)
+        String userNickname = userService.findCachedNickname(userId);
         log.info("입찰한 userNickname: {}", userNickname);
-
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
-
-        Double remainingTime = (double) redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
         log.info("remaining time : {}", remainingTime);
 
         // 전송할 메시지에 담긴 bidRecord
@@ -195,10 +202,14 @@ public class BidService {
                 .bidAmount(bidAmount)
                 .nextBid(newBidAmount)
                 .remainingTime(remainingTime)
+                .endAt(endAt)
+                .serverTime(System.currentTimeMillis())
                 .build();
 
         notifyClient(auctionId, bidRecord, false, null);
         log.info("클라이언트들에게 전송 완료");
+
+        bidHistoryService.record(auctionId, userId, userNickname, bidAmount);
     }
 
 //    private void updateAuctionEndTime(Long auctionId, LocalDateTime localDateTime) {
@@ -214,9 +225,7 @@ public class BidService {
     }
 
     public Double getMinBid(Long auctionId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다."));
-        return auction.getMinBid();
+        return auctionMetaCache.get(auctionId).getMinBid();
     }
 
     public Double calculateBidIncrement(Double currentBid) {
@@ -242,20 +251,14 @@ public class BidService {
 
 
     public void notifyClient(Long auctionId, BidMessage bidMessage, boolean isError, String errorMessage) {
-        ResponseVO<Object> response;
         if (isError) {
             // 에러가 발생한 경우
-            response = ResponseVO.failure("Bid","500", errorMessage);
-        } else {
-            // 성공적인 입찰인 경우
-            Map<String, Object> data = new HashMap<>();
-            data.put("bidRecord", bidMessage);
-            response = ResponseVO.bidSuccess("Bid","200", data);
+            ResponseVO<Object> response = ResponseVO.failure("Bid","500", errorMessage);
+            broadcastRelay.publish("/sub/auction/" + auctionId, response);
+            return;
         }
-
-        // 클라이언트에게 ResponseVO 객체를 전송
-        log.info("AuctionID: {} 에게 데이터 전송", auctionId);
-        messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
+        // 성공적인 입찰은 짧은 시간 동안 모아서 한 번에 전송
+        bidBroadcastCoalescer.submit(auctionId, bidMessage);
     }
 
     public void notifyUser (Long userId, String message) {
@@ -295,12 +298,27 @@ public class BidService {
 //    }
 
     public Double getAuctionRemainingTime (Long auctionId) {
-        String key = AUCTION_END_KEY_PREFIX + auctionId;
-        Long remainingTime = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+        Long endAt = getAuctionEndAt(auctionId);
+        if (endAt == null) {
+            return null;
+        }
+        return (double) Math.max(0, endAt - System.currentTimeMillis());
+    }
 
-        if (remainingTime == null || remainingTime < 0) {
+    // 경매 마감 시각(epoch ms), 진행 중이 아니면 null
+    // 클라이언트는 이 값과 서버 시각(/auction/time)으로 남은 시간을 직접 계산한다
+    public Long getAuctionEndAt(Long auctionId) {
+        String key = AUCTION_END_KEY_PREFIX + auctionId;
+        Object value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
             return null;
         }
-        return remainingTime.doubleValue();
+        try {
+            return (long) Double.parseDouble(value.toString());
+        } catch (NumberFormatException e) {
+            // 마감 시각 대신 다른 값이 저장된 이전 형식의 키
+            Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            return ttl == null || ttl < 0 ? null : System.currentTimeMillis() + ttl;
+        }
     }
 }
@@ -1,9 +1,14 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionDetailCache;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMetaCache;
 import com.turtlecoin.auctionservice.domain.auction.dto.AuctionResultDTO;
 import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
 import com.turtlecoin.auctionservice.domain.auction.entity.AuctionProgress;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BroadcastRelay;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BroadcastSequencer;
+import com.turtlecoin.auctionservice.domain.websocket.ticker.AuctionTicker;
 import com.turtlecoin.auctionservice.feign.service.UserService;
 import com.turtlecoin.auctionservice.global.exception.AuctionNotFoundException;
 import com.turtlecoin.auctionservice.global.response.ResponseVO;
@@ -12,7 +17,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,10 +29,16 @@ import java.util.Map;
 public class SendService {
     private final RabbitTemplate rabbitTemplate;
     private final AuctionRepository auctionRepository;
-    private final SimpMessagingTemplate messagingTemplate;
     private static final String AUCTION_BID_KEY_PREFIX = "auction_bid_";
+    private static final String AUCTION_PROXY_KEY_PREFIX = "auction_proxy_";
     private final RedisTemplate redisTemplate;
     private final UserService userService;
+    private final AuctionMetaCache auctionMetaCache;
+    private final AuctionDetailCache auctionDetailCache;
+    private final BroadcastRelay broadcastRelay;
+    private final BroadcastSequencer broadcastSequencer;
+    private final AuctionTicker auctionTicker;
+    private final BidHistoryService bidHistoryService;
 
     @Value("${spring.rabbitmq.exchange}")
     private String auctionResultExchange;
@@ -52,6 +62,18 @@ public class SendService {
     public void endAuction(Long auctionId) {
         ResponseVO<Object> response;
         Auction auction = auctionRepository.findById(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매를 찾을 수 없습니다"));
+        // 마감 재시도(커밋 후 정리 실패, claim 기한 만료)로 다시 호출돼도 종료 처리/결과 전송은 한 번만
+        if (auction.getAuctionProgress() != AuctionProgress.DURING_AUCTION) {
+            log.info("이미 종료 처리된 경매입니다: auctionId = {}, progress = {}", auctionId, auction.getAuctionProgress());
+            return;
+        }
+        // 종료된 경매는 더 이상 입찰 경로에서 조회하지 않으므로 캐시에서 제거
+        auctionMetaCache.evict(auctionId);
+        auctionDetailCache.evict(auctionId);
+        bidHistoryService.evict(auctionId);
+        auctionTicker.removeLive(auctionId);
+        // 종료된 경매의 자동 입찰 최대 금액은 더 이상 필요 없음
+        redisTemplate.delete(AUCTION_PROXY_KEY_PREFIX + auctionId);
         String redisBidKey = AUCTION_BID_KEY_PREFIX + auctionId;
         Map<Object, Object> bidData = redisTemplate.opsForHash().entries(redisBidKey);
         Map<String, Object> data = new HashMap<>();
@@ -65,7 +87,8 @@ public class SendService {
             data.put("message", "경매가 유찰됐습니다.");
 
             response = ResponseVO.bidSuccess("End","205",data);
-            messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
+            broadcastRelay.publish("/sub/auction/" + auctionId, response, broadcastSequencer.next(auctionId));
+            broadcastSequencer.expire(auctionId);
             // rabbitmq로 보내기
 //            sendMessage(auctionResultDTO);
             log.info("해당 경매에 입찰 기록이 없습니다: auctionId = {}", auctionId);
@@ -91,7 +114,8 @@ public class SendService {
         auction.updateStatus(AuctionProgress.SUCCESSFUL_BID);
         auction.updateAfterAuction(winningUserId, winningBid);
 
-        messagingTemplate.convertAndSend("/sub/auction/" + auctionId, response);
+        broadcastRelay.publish("/sub/auction/" + auctionId, response, broadcastSequencer.next(auctionId));
+        broadcastSequencer.expire(auctionId);
         // rabbitmq로 보내기
         sendMessage(auctionResultDTO);
         log.info("경매 종료 처리 완료: auctionId = {}", auctionId);
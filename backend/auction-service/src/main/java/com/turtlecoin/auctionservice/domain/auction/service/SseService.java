@@ -1,8 +1,7 @@
 package com.turtlecoin.auctionservice.domain.auction.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.turtlecoin.auctionservice.domain.auction.repository.EmitterRepository;
-import com.turtlecoin.auctionservice.domain.global.internal.EmitterMapper;
+import com.turtlecoin.auctionservice.domain.auction.sse.SseDispatcher;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,8 +10,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -20,10 +17,11 @@ import java.util.concurrent.CompletableFuture;
 public class SseService {
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
     private final EmitterRepository emitterRepository;
-    private final ObjectMapper objectMapper = new ObjectMapper(); // JSON 변환용 ObjectMapper
+    private final SseDispatcher sseDispatcher;
 
-    public SseEmitter subscribe(Long auctionId) throws IOException {
-        SseEmitter emitter = createEmitter(auctionId);
+    // lastEventId: 재연결한 브라우저가 보내는 Last-Event-ID (없으면 null)
+    public SseEmitter subscribe(Long auctionId, String lastEventId) throws IOException {
+        SseEmitter emitter = createEmitter(auctionId, lastEventId);
         log.info(auctionId + "에 대하여 SSE 연결 완료");
 //        String jsonData = objectMapper.writeValueAsString("SSE Connected");
 //        emitter.send(SseEmitter.event().id(String.valueOf(auctionId)).name("sse").data(jsonData));
@@ -35,29 +33,13 @@ public class SseService {
     }
 
     private void sendToClient(Long id, Object data) {
-        // id 에 연결된 모든 SSE에게 메세지 전송
-        List<EmitterMapper> mappers = emitterRepository.get(id);
-        for(EmitterMapper mapper : mappers) {
-            SseEmitter emitter = mapper.getEmitter();
-
-            if (emitter != null) {
-                CompletableFuture.runAsync(() -> {
-                    try {
-                       String jsonData = objectMapper.writeValueAsString("SSE Connected");
-                       emitter.send(SseEmitter.event().id(String.valueOf(id)).name("sse").data(jsonData));
-                    } catch (Exception e) {
-                        // 유효성을 검사하여 삭제 및 종료
-                        emitter.completeWithError(e);
-                        emitterRepository.deleteByIdAndUUID(id, mapper.getUuid());
-                    }
-                });
-            }
-        }
+        // id 에 연결된 모든 SSE에게 메세지 전송 (직렬화는 한 번만, 전송은 SSE 전용 스레드에서)
+        sseDispatcher.broadcast(id, data);
     }
 
-    private SseEmitter createEmitter(Long id) {
+    private SseEmitter createEmitter(Long id, String lastEventId) {
         SseEmitter emitter = new SseEmitter(DEFAULT_TIMEOUT);
-        String uuid =  emitterRepository.save(id, emitter);
+        String uuid = sseDispatcher.register(id, emitter, lastEventId).getUuid();
         // // SSE 종료
         emitter.onCompletion(() -> emitterRepository.deleteByIdAndUUID(id, uuid));
         emitter.onTimeout(() -> emitterRepository.deleteByIdAndUUID(id, uuid));
@@ -0,0 +1,234 @@
+package com.turtlecoin.auctionservice.domain.auction.sse;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turtlecoin.auctionservice.domain.auction.repository.EmitterRepository;
+import com.turtlecoin.auctionservice.domain.global.internal.EmitterMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// SSE 전송 전용 스레드 풀
+// 이벤트는 브로드캐스트마다 한 번만 직렬화해서 모든 구독자의 대기열에 넣고,
+// 구독자별로 하나의 작업이 대기열을 순서대로 비운다 (공용 ForkJoinPool을 사용하지 않음)
+// 전송에 실패한 연결과 heartbeat가 나가지 않는 연결은 정리한다
+// 경매별로 최근 이벤트를 몇 개 보관해서, Last-Event-ID로 재연결한 클라이언트에게 놓친 이벤트를 다시 보낸다
+@Slf4j
+@Component
+public class SseDispatcher implements DisposableBean {
+    private static final String EVENT_NAME = "sse";
+
+    private final EmitterRepository emitterRepository;
+    private final ObjectMapper objectMapper;
+    private final int emitterQueueSize;
+    private final int replaySize;
+    private final long replayTtlMs;
+    // 이벤트 ID: 재시작 후에도 대부분 이전 ID보다 커지도록 현재 시각(ms)에서 시작
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis());
+    // 경매 ID -> 최근 이벤트
+    private final Map<Long, EventRing> rings = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "sse-heartbeat"));
+
+    private final Counter queueDropCounter;
+    private final Counter executorDropCounter;
+    private final Counter reapedCounter;
+
+    public SseDispatcher(EmitterRepository emitterRepository,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${auction.sse.dispatch.threads:4}") int threads,
+                         @Value("${auction.sse.dispatch.queue-capacity:10000}") int queueCapacity,
+                         @Value("${auction.sse.emitter.queue-size:32}") int emitterQueueSize,
+                         @Value("${auction.sse.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+                         @Value("${auction.sse.replay.size:32}") int replaySize,
+                         @Value("${auction.sse.replay.ttl-ms:600000}") long replayTtlMs) {
+        this.emitterRepository = emitterRepository;
+        this.objectMapper = objectMapper;
+        this.emitterQueueSize = emitterQueueSize;
+        this.replaySize = replaySize;
+        this.replayTtlMs = replayTtlMs;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "sse-dispatch-" + threadNumber.incrementAndGet()));
+        this.queueDropCounter = dropCounter(meterRegistry, "emitter-queue");
+        this.executorDropCounter = dropCounter(meterRegistry, "executor");
+        this.reapedCounter = Counter.builder("auction.sse.reaped")
+                .description("전송 실패로 정리한 SSE 연결 수")
+                .register(meterRegistry);
+        heartbeat.scheduleWithFixedDelay(this::sendHeartbeatsSafely, heartbeatIntervalMs, heartbeatIntervalMs,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private Counter dropCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("auction.sse.dropped")
+                .description("전송하지 못하고 버린 SSE 이벤트 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    // 새 연결 등록, lastEventId가 있으면 그 이후 이벤트를 먼저 보낸다
+    // 등록/재전송과 브로드캐스트가 경매별로 순서대로 일어나서 이벤트가 빠지거나 중복되지 않는다
+    public EmitterMapper register(Long auctionId, SseEmitter emitter, String lastEventId) {
+        EventRing ring = rings.computeIfAbsent(auctionId, key -> new EventRing());
+        synchronized (ring) {
+            EmitterMapper mapper = emitterRepository.save(auctionId, emitter);
+            Long after = parseEventId(lastEventId);
+            if (after != null) {
+                for (StoredEvent stored : ring.events) {
+                    if (stored.id() > after) {
+                        enqueue(auctionId, mapper, stored.event());
+                    }
+                }
+            }
+            return mapper;
+        }
+    }
+
+    // 경매를 구독 중인 모든 연결에 이벤트 전송
+    public void broadcast(Long auctionId, Object data) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            log.error("SSE 이벤트 직렬화 실패: auctionId = {}", auctionId, e);
+            return;
+        }
+        EventRing ring = rings.computeIfAbsent(auctionId, key -> new EventRing());
+        synchronized (ring) {
+            long eventId = eventIds.incrementAndGet();
+            Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                    .id(String.valueOf(eventId))
+                    .name(EVENT_NAME)
+                    .data(json)
+                    .build();
+            ring.add(new StoredEvent(eventId, event), replaySize);
+            for (EmitterMapper mapper : emitterRepository.get(auctionId)) {
+                enqueue(auctionId, mapper, event);
+            }
+        }
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void sendHeartbeatsSafely() {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event().comment("heartbeat").build();
+            emitterRepository.forEach((auctionId, mapper) -> enqueue(auctionId, mapper, event));
+            evictIdleRings();
+        } catch (Exception e) {
+            log.error("SSE heartbeat 전송 실패", e);
+        }
+    }
+
+    // 구독자가 없고 한동안 이벤트가 없던 경매의 최근 이벤트는 버린다
+    private void evictIdleRings() {
+        long now = System.currentTimeMillis();
+        for (Long auctionId : rings.keySet()) {
+            rings.computeIfPresent(auctionId, (key, ring) ->
+                    now - ring.lastEventAt >= replayTtlMs && !emitterRepository.hasSubscribers(key) ? null : ring);
+        }
+    }
+
+    private void enqueue(Long auctionId, EmitterMapper mapper, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (mapper.offer(event, emitterQueueSize)) {
+            queueDropCounter.increment();
+        }
+        schedule(auctionId, mapper);
+    }
+
+    private void schedule(Long auctionId, EmitterMapper mapper) {
+        if (!mapper.tryStartDrain()) {
+            return;
+        }
+        try {
+            executor.execute(() -> drain(auctionId, mapper));
+        } catch (RejectedExecutionException e) {
+            // 풀이 밀려 있으면 이번 이벤트는 버리고 다음 이벤트 때 다시 시도
+            mapper.finishDrain();
+            executorDropCounter.increment();
+        }
+    }
+
+    private void drain(Long auctionId, EmitterMapper mapper) {
+        Set<ResponseBodyEmitter.DataWithMediaType> event;
+        while ((event = mapper.poll()) != null) {
+            try {
+                mapper.getEmitter().send(event);
+            } catch (Exception e) {
+                reap(auctionId, mapper, e);
+                return;
+            }
+        }
+        mapper.finishDrain();
+        // 대기열을 비운 직후 들어온 이벤트가 있으면 다시 예약
+        if (mapper.hasPending()) {
+            schedule(auctionId, mapper);
+        }
+    }
+
+    private void reap(Long auctionId, EmitterMapper mapper, Exception cause) {
+        log.debug("SSE 연결 정리: auctionId = {}, uuid = {}, error = {}", auctionId, mapper.getUuid(), cause.getMessage());
+        mapper.close();
+        emitterRepository.deleteByIdAndUUID(auctionId, mapper.getUuid());
+        reapedCounter.increment();
+        try {
+            mapper.getEmitter().completeWithError(cause);
+        } catch (Exception ignored) {
+            // 이미 닫힌 연결
+        }
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdown();
+        executor.shutdown();
+    }
+
+    private record StoredEvent(long id, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+    }
+
+    // 경매별 최근 이벤트 (접근은 ring 객체로 동기화)
+    private static class EventRing {
+        private final Deque<StoredEvent> events = new ArrayDeque<>();
+        private volatile long lastEventAt = System.currentTimeMillis();
+
+        void add(StoredEvent event, int maxSize) {
+            events.addLast(event);
+            while (events.size() > maxSize) {
+                events.pollFirst();
+            }
+            lastEventAt = System.currentTimeMillis();
+        }
+    }
+}
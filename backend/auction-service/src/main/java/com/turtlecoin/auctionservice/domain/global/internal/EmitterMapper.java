@@ -1,13 +1,68 @@
 package com.turtlecoin.auctionservice.domain.global.internal;
 
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import lombok.AllArgsConstructor;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import lombok.Getter;
 
-@AllArgsConstructor
-@Getter
+// SSE 연결 하나와 그 연결로 보낼 이벤트 대기열
+// 대기열이 가득 차면 가장 오래된 이벤트를 버린다 (느린 구독자가 메모리를 계속 차지하지 않도록)
 public class EmitterMapper{
-	String uuid;
-	SseEmitter emitter;
-}
\ No newline at end of file
+	@Getter
+	private final String uuid;
+	@Getter
+	private final SseEmitter emitter;
+	private final Deque<Set<ResponseBodyEmitter.DataWithMediaType>> outbox = new ArrayDeque<>();
+	// 한 연결에는 한 번에 하나의 전송 작업만 돌도록 (이벤트 순서 보장)
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private volatile boolean closed;
+
+	public EmitterMapper(String uuid, SseEmitter emitter) {
+		this.uuid = uuid;
+		this.emitter = emitter;
+	}
+
+	// 대기열에 추가, 가득 차서 오래된 이벤트를 버렸으면 true
+	public synchronized boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event, int maxSize) {
+		if (closed) {
+			return false;
+		}
+		boolean dropped = false;
+		while (outbox.size() >= maxSize) {
+			outbox.pollFirst();
+			dropped = true;
+		}
+		outbox.addLast(event);
+		return dropped;
+	}
+
+	public synchronized Set<ResponseBodyEmitter.DataWithMediaType> poll() {
+		return outbox.pollFirst();
+	}
+
+	public synchronized boolean hasPending() {
+		return !outbox.isEmpty();
+	}
+
+	public boolean tryStartDrain() {
+		return !closed && draining.compareAndSet(false, true);
+	}
+
+	public void finishDrain() {
+		draining.set(false);
+	}
+
+	public synchronized void close() {
+		closed = true;
+		outbox.clear();
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+}
@@ -0,0 +1,62 @@
+package com.turtlecoin.auctionservice.domain.global.internal;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 최대 개수 제한 LRU + TTL 캐시
+// {metricName}{result=hit|miss} 카운터와 {metricName}.size 게이지를 등록한다
+public class LruTtlCache<K, V> {
+    private final long ttlMillis;
+    private final Map<K, Cached<V>> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public LruTtlCache(String metricName, MeterRegistry meterRegistry, int maxSize, long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Cached<V>> eldest) {
+                return size() > maxSize;
+            }
+        });
+        this.hitCounter = Counter.builder(metricName)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(metricName)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder(metricName + ".size", cache, Map::size)
+                .register(meterRegistry);
+    }
+
+    // 없거나 만료됐으면 null
+    public V get(K key) {
+        Cached<V> cached = cache.get(key);
+        if (cached == null || cached.isExpired()) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        return cached.value;
+    }
+
+    public void put(K key, V value) {
+        cache.put(key, new Cached<>(value, System.currentTimeMillis() + ttlMillis));
+    }
+
+    // 있었으면 true
+    public boolean remove(K key) {
+        return cache.remove(key) != null;
+    }
+
+    private record Cached<V>(V value, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.turtlecoin.auctionservice.domain.global.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+// 계층형 타이밍 휠
+// 하위 휠 범위(tickMs * wheelSize)를 넘는 항목은 상위 휠에 넣고, 시간이 흐르면 하위 휠로 내려보낸다
+// 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다
+public class TimingWheel<T> {
+    private final long tickMs;
+    private final int wheelSize;
+    private final long interval;
+    private final List<Deque<Entry<T>>> buckets;
+    private long currentTime;
+    private TimingWheel<T> overflowWheel;
+
+    public TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.interval = tickMs * wheelSize;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.currentTime = startMs - (startMs % tickMs);
+    }
+
+    // 이미 만료된 시각이면 false를 반환하고, 호출한 쪽에서 바로 처리한다
+    public boolean add(T item, long deadlineMs) {
+        return add(new Entry<>(item, deadlineMs));
+    }
+
+    // nowMs까지 시계를 진행하면서 만료된 항목을 expired로 넘긴다
+    public void advanceClock(long nowMs, Consumer<T> expired) {
+        advance(nowMs, entry -> {
+            if (!add(entry)) {
+                expired.accept(entry.item);
+            }
+        });
+    }
+
+    private boolean add(Entry<T> entry) {
+        if (entry.deadlineMs < currentTime + tickMs) {
+            return false;
+        }
+        if (entry.deadlineMs < currentTime + interval) {
+            buckets.get((int) ((entry.deadlineMs / tickMs) % wheelSize)).add(entry);
+            return true;
+        }
+        return overflowWheel().add(entry);
+    }
+
+    // 상위 휠의 항목은 가장 아래 휠로 다시 넣어야 하므로 재삽입 함수를 그대로 넘긴다
+    private void advance(long nowMs, Consumer<Entry<T>> reinsert) {
+        while (nowMs >= currentTime + tickMs) {
+            currentTime += tickMs;
+            Deque<Entry<T>> bucket = buckets.get((int) ((currentTime / tickMs) % wheelSize));
+            Entry<T> entry;
+            while ((entry = bucket.poll()) != null) {
+                reinsert.accept(entry);
+            }
+            if (overflowWheel != null) {
+                overflowWheel.advance(currentTime, reinsert);
+            }
+        }
+    }
+
+    private TimingWheel<T> overflowWheel() {
+        if (overflowWheel == null) {
+            overflowWheel = new TimingWheel<>(interval, wheelSize, currentTime);
+        }
+        return overflowWheel;
+    }
+
+    private record Entry<T>(T item, long deadlineMs) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.turtlecoin.auctionservice.domain.turtle.dto;
+
+import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
+import lombok.*;
+
+// main-service에서 거북이 정보가 바뀌면 받는 이벤트
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TurtleChangedEventDTO {
+    private Long turtleId;
+    private Gender gender;
+    private int weight;
+    private String scientificName;
+    private boolean dead;
+    // 현재 소유자 (양도되면 바뀜)
+    private Long ownerId;
+}
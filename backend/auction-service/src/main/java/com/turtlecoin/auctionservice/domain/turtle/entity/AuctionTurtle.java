@@ -0,0 +1,48 @@
+package com.turtlecoin.auctionservice.domain.turtle.entity;
+
+import com.turtlecoin.auctionservice.domain.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+// 경매에 등록된 거북이의 속성 사본 (목록 필터를 main-service 호출 없이 로컬에서 처리하기 위함)
+// 경매 등록 시 저장하고, main-service의 거북이 변경 이벤트로 갱신한다
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Table(name = "auction_turtle", indexes = {
+        @Index(name = "idx_auction_turtle_gender_weight", columnList = "gender, weight"),
+        @Index(name = "idx_auction_turtle_weight", columnList = "weight")
+})
+public class AuctionTurtle extends BaseEntity {
+    // main-service의 거북이 ID
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Gender gender;
+
+    @Column(nullable = false)
+    private int weight;
+
+    @Column(name = "scientific_name")
+    private String scientificName;
+
+    // 폐사 여부, 폐사한 거북이의 진행 전 경매는 목록에서 뺀다
+    @Column(nullable = false)
+    private boolean dead;
+
+    // 현재 소유자, 판매자와 다르면(양도됨) 진행 전 경매는 목록에서 뺀다
+    @Column(name = "owner_id")
+    private Long ownerId;
+
+    public void update(Gender gender, int weight, String scientificName, boolean dead, Long ownerId) {
+        this.gender = gender;
+        this.weight = weight;
+        this.scientificName = scientificName;
+        this.dead = dead;
+        this.ownerId = ownerId;
+    }
+}
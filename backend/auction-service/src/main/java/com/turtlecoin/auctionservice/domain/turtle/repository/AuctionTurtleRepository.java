@@ -0,0 +1,15 @@
+package com.turtlecoin.auctionservice.domain.turtle.repository;
+
+import com.turtlecoin.auctionservice.domain.turtle.entity.AuctionTurtle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AuctionTurtleRepository extends JpaRepository<AuctionTurtle, Long> {
+    // 경매는 있는데 속성 사본이 없는 거북이 (사본 도입 전에 등록된 경매)
+    @Query("select distinct a.turtleId from Auction a where not exists (select t.id from AuctionTurtle t where t.id = a.turtleId)")
+    List<Long> findMissingTurtleIds();
+}
@@ -0,0 +1,158 @@
+package com.turtlecoin.auctionservice.domain.turtle.service;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.turtlecoin.auctionservice.domain.turtle.dto.TurtleChangedEventDTO;
+import com.turtlecoin.auctionservice.domain.turtle.entity.AuctionTurtle;
+import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
+import com.turtlecoin.auctionservice.domain.turtle.entity.QAuctionTurtle;
+import com.turtlecoin.auctionservice.domain.turtle.repository.AuctionTurtleRepository;
+import com.turtlecoin.auctionservice.feign.MainClient;
+import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
+import com.turtlecoin.auctionservice.global.exception.TurtleNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 경매 거북이 속성 사본 관리
+// 목록 필터(성별, 무게)는 이 테이블에서 인덱스로 처리하고 main-service에는 묻지 않는다
+@Slf4j
+@Service
+public class AuctionTurtleService implements DisposableBean {
+    private final AuctionTurtleRepository auctionTurtleRepository;
+    private final MainClient mainClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "auction-turtle-backfill"));
+
+    public AuctionTurtleService(AuctionTurtleRepository auctionTurtleRepository, MainClient mainClient,
+                                TransactionTemplate transactionTemplate) {
+        this.auctionTurtleRepository = auctionTurtleRepository;
+        this.mainClient = mainClient;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // 경매 등록 시 main-service에서 거북이 정보를 받아 사본 저장 (이미 있으면 최신 값으로 갱신)
+    @Transactional
+    public void register(Long turtleId) {
+        TurtleFilteredResponseDTO turtleInfo = mainClient.getTurtle(turtleId);
+        if (turtleInfo == null) {
+            throw new TurtleNotFoundException("Main-service에서 거북이정보를 찾을 수 없습니다.");
+        }
+        // 등록 가능한 거북이는 살아 있으므로 폐사 여부는 false로 두고 이후 변경 이벤트로 갱신한다
+        save(turtleId, turtleInfo.getGender(), turtleInfo.getWeight(), turtleInfo.getScientificName(),
+                false, turtleInfo.getUserId());
+    }
+
+    // main-service의 거북이 변경 이벤트, 경매에 등록된 적 없는 거북이는 무시한다
+    @Transactional
+    @RabbitListener(queues = "turtle.event.queue")
+    public void onTurtleChanged(TurtleChangedEventDTO event) {
+        if (event.getTurtleId() == null || event.getGender() == null) {
+            log.warn("거북이 변경 이벤트 형식 오류로 무시: turtleId = {}", event.getTurtleId());
+            return;
+        }
+        auctionTurtleRepository.findById(event.getTurtleId())
+                .ifPresent(turtle -> turtle.update(event.getGender(), event.getWeight(), event.getScientificName(),
+                        event.isDead(), event.getOwnerId()));
+    }
+
+    // 거북이 ID별 학명 (사본이 아직 없는 거북이는 빠짐)
+    @Transactional(readOnly = true)
+    public Map<Long, String> findScientificNames(Collection<Long> turtleIds) {
+        if (turtleIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> result = new HashMap<>();
+        for (AuctionTurtle turtle : auctionTurtleRepository.findAllById(turtleIds)) {
+            result.put(turtle.getId(), turtle.getScientificName());
+        }
+        return result;
+    }
+
+    // 경매의 거북이 ID 조건 (필터가 없으면 null)
+    public BooleanExpression turtleIdFilter(NumberPath<Long> turtleId, Gender gender, Double minSize, Double maxSize) {
+        if (gender == null && minSize == null && maxSize == null) {
+            return null;
+        }
+        QAuctionTurtle turtle = QAuctionTurtle.auctionTurtle;
+        BooleanBuilder whereClause = new BooleanBuilder();
+        if (gender != null) {
+            whereClause.and(turtle.gender.eq(gender));
+        }
+        if (minSize != null) {
+            whereClause.and(turtle.weight.goe(minSize));
+        }
+        if (maxSize != null) {
+            whereClause.and(turtle.weight.loe(maxSize));
+        }
+        return turtleId.in(JPAExpressions.select(turtle.id).from(turtle).where(whereClause));
+    }
+
+    // 폐사했거나 판매자에게서 양도된 거북이의 경매 조건 (사본이 없는 거북이는 알 수 없으므로 빠지지 않는다)
+    public BooleanExpression unavailableTurtleFilter(NumberPath<Long> turtleId, NumberPath<Long> sellerId) {
+        QAuctionTurtle turtle = QAuctionTurtle.auctionTurtle;
+        return JPAExpressions.selectOne().from(turtle)
+                .where(turtle.id.eq(turtleId),
+                        turtle.dead.isTrue().or(turtle.ownerId.isNotNull().and(turtle.ownerId.ne(sellerId))))
+                .exists();
+    }
+
+    // 사본 도입 전에 등록된 경매의 거북이를 한 번 채운다 (여러 인스턴스가 동시에 해도 같은 값으로 덮어쓸 뿐)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        backfillExecutor.execute(() -> {
+            List<Long> turtleIds;
+            try {
+                turtleIds = auctionTurtleRepository.findMissingTurtleIds();
+            } catch (Exception e) {
+                log.error("거북이 사본 백필 대상 조회 실패", e);
+                return;
+            }
+            if (!turtleIds.isEmpty()) {
+                log.info("거북이 사본 백필 시작: {}건", turtleIds.size());
+            }
+            for (Long turtleId : turtleIds) {
+                try {
+                    // 같은 객체 안의 호출이라 @Transactional이 적용되지 않으므로 트랜잭션을 직접 연다
+                    transactionTemplate.executeWithoutResult(status -> register(turtleId));
+                } catch (Exception e) {
+                    log.warn("거북이 사본 백필 실패: turtleId = {}, error = {}", turtleId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void save(Long turtleId, Gender gender, int weight, String scientificName, boolean dead, Long ownerId) {
+        auctionTurtleRepository.findById(turtleId)
+                .ifPresentOrElse(
+                        turtle -> turtle.update(gender, weight, scientificName, dead, ownerId),
+                        () -> auctionTurtleRepository.save(AuctionTurtle.builder()
+                                .id(turtleId)
+                                .gender(gender)
+                                .weight(weight)
+                                .scientificName(scientificName)
+                                .dead(dead)
+                                .ownerId(ownerId)
+                                .build()));
+    }
+
+    @Override
+    public void destroy() {
+        backfillExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,117 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidDeltaFrame;
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 짧은 시간(window) 안에 들어온 입찰을 경매당 하나의 프레임으로 묶어서 브로드캐스트
+// 입찰 경쟁이 심할 때 구독자 수 x 입찰 수만큼 나가던 프레임을 window당 1개로 줄인다
+// window 안에 경매가 마감되면 남은 입찰 프레임은 보내지 않는다 (종료 프레임에 최종 입찰 정보가 들어 있음)
+@Slf4j
+@Component
+public class BidBroadcastCoalescer implements DisposableBean {
+    private final BroadcastRelay broadcastRelay;
+    private final BroadcastSequencer broadcastSequencer;
+    private final UserService userService;
+    private final long windowMs;
+    private final boolean deltaFormat;
+    private final Counter coalescedCounter;
+
+    // 경매별로 아직 전송되지 않은 가장 최신 입찰
+    private final Map<Long, BidMessage> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "bid-broadcast"));
+
+    public BidBroadcastCoalescer(BroadcastRelay broadcastRelay,
+                                 BroadcastSequencer broadcastSequencer,
+                                 UserService userService,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${auction.broadcast.coalesce-window-ms:50}") long windowMs,
+                                 @Value("${auction.broadcast.frame-format:full}") String frameFormat) {
+        this.broadcastRelay = broadcastRelay;
+        this.broadcastSequencer = broadcastSequencer;
+        this.userService = userService;
+        this.windowMs = windowMs;
+        this.deltaFormat = "delta".equalsIgnoreCase(frameFormat);
+        this.coalescedCounter = Counter.builder("auction.broadcast.coalesced")
+                .description("다른 입찰과 합쳐져 따로 전송되지 않은 입찰 수")
+                .register(meterRegistry);
+    }
+
+    public void submit(Long auctionId, BidMessage bidMessage) {
+        if (windowMs <= 0) {
+            publish(auctionId, bidMessage);
+            return;
+        }
+        boolean[] first = {false};
+        pending.compute(auctionId, (id, current) -> {
+            if (current == null) {
+                first[0] = true;
+                return bidMessage;
+            }
+            coalescedCounter.increment();
+            // 동시에 들어온 입찰은 금액이 높은 쪽이 최신
+            return current.getBidAmount() > bidMessage.getBidAmount() ? current : bidMessage;
+        });
+        if (first[0]) {
+            // window의 첫 입찰일 때만 전송 예약
+            flusher.schedule(() -> flush(auctionId), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Long auctionId) {
+        BidMessage latest = pending.remove(auctionId);
+        if (latest == null) {
+            return;
+        }
+        try {
+            publish(auctionId, latest);
+        } catch (Exception e) {
+            log.error("입찰 브로드캐스트 전송 실패: auctionId = {}", auctionId, e);
+        }
+    }
+
+    private void publish(Long auctionId, BidMessage bidMessage) {
+        // 입찰 처리 시점에 캐시에 없던 닉네임은 전송 직전에 채운다 (window 안에서 합쳐진 입찰은 한 번만 조회)
+        if (bidMessage.getNickname() == null && bidMessage.getUserId() != null) {
+            bidMessage = bidMessage.toBuilder()
+                    .nickname(userService.getUserNicknameById(bidMessage.getUserId()))
+                    .build();
+        }
+        Object frame;
+        if (deltaFormat) {
+            frame = BidDeltaFrame.from(bidMessage);
+        } else {
+            Map<String, Object> data = new HashMap<>();
+            data.put("bidRecord", bidMessage);
+            frame = ResponseVO.bidSuccess("Bid", "200", data);
+        }
+        // 마감과 동시에 순번을 받으면 종료 프레임 뒤에 입찰 프레임이 나갈 수 있어, 마감 여부와 순번 발급을 원자적으로 처리
+        Long seq = broadcastSequencer.nextWhileLive(auctionId);
+        if (seq == null) {
+            log.info("이미 마감된 경매의 입찰 프레임은 전송하지 않습니다: auctionId = {}", auctionId);
+            return;
+        }
+        log.info("AuctionID: {} 에게 데이터 전송", auctionId);
+        broadcastRelay.publish("/sub/auction/" + auctionId, frame, seq);
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+    }
+}
@@ -0,0 +1,66 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+// 바이너리(CBOR) 프레임 인코딩
+// 구독 시 content-type: application/cbor를 보낸 클라이언트는 "{destination}.cbor"를 구독하게 되고,
+// 같은 프레임을 JSON 대신 CBOR로 받는다 (프레임 내용/구조는 JSON과 동일)
+@Component
+public class BinaryFrameEncoder {
+    public static final MimeType APPLICATION_CBOR = MimeType.valueOf("application/cbor");
+    public static final String DESTINATION_SUFFIX = ".cbor";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final Counter encodedCounter;
+
+    public BinaryFrameEncoder(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder objectMapperBuilder,
+                              MeterRegistry meterRegistry) {
+        this.jsonMapper = objectMapper;
+        // JSON과 같은 모듈/설정으로 객체를 바로 CBOR로 직렬화
+        // 정수는 최소 길이, 소수는 float로 손실 없이 표현되면 4바이트로 기록
+        this.cborMapper = objectMapperBuilder
+                .factory(CBORFactory.builder()
+                        .enable(CBORGenerator.Feature.WRITE_MINIMAL_DOUBLES)
+                        .build())
+                .build();
+        this.encodedCounter = Counter.builder("auction.broadcast.cbor.encoded")
+                .description("CBOR로 변환해 전송한 프레임 수")
+                .register(meterRegistry);
+    }
+
+    public static String binaryDestination(String destination) {
+        return destination + DESTINATION_SUFFIX;
+    }
+
+    // 직렬화 전 객체를 CBOR로 직렬화 (구독자가 있을 때 인스턴스마다 한 번만 호출)
+    public byte[] encode(Object payload) throws IOException {
+        encodedCounter.increment();
+        return cborMapper.writeValueAsBytes(payload);
+    }
+
+    // JSON으로만 받은 프레임(다른 인스턴스가 발행한 프레임, 재동기화 프레임)을 CBOR로 변환
+    // 트리를 만들지 않고 토큰 단위로 그대로 옮겨 쓴다
+    public byte[] fromJson(byte[] json) throws IOException {
+        encodedCounter.increment();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length);
+        try (JsonParser parser = jsonMapper.getFactory().createParser(json);
+             JsonGenerator generator = cborMapper.getFactory().createGenerator(out)) {
+            parser.nextToken();
+            generator.copyCurrentStructure(parser);
+        }
+        return out.toByteArray();
+    }
+}
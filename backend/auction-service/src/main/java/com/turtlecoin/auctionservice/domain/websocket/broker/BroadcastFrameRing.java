@@ -0,0 +1,64 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// destination별 최근 브로드캐스트 프레임 (직렬화된 JSON 그대로 보관)
+// 재접속한 클라이언트가 놓친 프레임만 다시 받을 수 있게 한다
+@Component
+public class BroadcastFrameRing {
+    private final int ringSize;
+    // destination -> (seq -> JSON), 여러 인스턴스가 발행하면 순서가 섞여 도착할 수 있어 seq로 정렬해서 보관
+    private final Map<String, TreeMap<Long, byte[]>> rings;
+
+    public BroadcastFrameRing(@Value("${auction.broadcast.resync.ring-size:64}") int ringSize,
+                              @Value("${auction.broadcast.resync.max-destinations:1000}") int maxDestinations) {
+        this.ringSize = ringSize;
+        // 오래 사용되지 않은 destination부터 제거
+        this.rings = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, TreeMap<Long, byte[]>> eldest) {
+                return size() > maxDestinations;
+            }
+        });
+    }
+
+    public void append(String destination, long seq, byte[] json) {
+        TreeMap<Long, byte[]> ring = rings.computeIfAbsent(destination, key -> new TreeMap<>());
+        synchronized (ring) {
+            ring.put(seq, json);
+            while (ring.size() > ringSize) {
+                ring.pollFirstEntry();
+            }
+        }
+    }
+
+    // afterSeq 이후의 프레임 목록, ring에 남아 있지 않거나 중간에 아직 도착하지 않은 프레임이 있어
+    // 빠짐없이 채울 수 없으면 null (클라이언트는 전체 init을 다시 받는다)
+    public List<Frame> framesAfter(String destination, long afterSeq) {
+        TreeMap<Long, byte[]> ring = rings.get(destination);
+        if (ring == null) {
+            return null;
+        }
+        synchronized (ring) {
+            if (ring.isEmpty() || ring.firstKey() > afterSeq + 1) {
+                return null;
+            }
+            List<Frame> frames = new ArrayList<>();
+            long expected = afterSeq + 1;
+            for (Map.Entry<Long, byte[]> entry : ring.tailMap(afterSeq, false).entrySet()) {
+                if (entry.getKey() != expected) {
+                    return null;
+                }
+                frames.add(new Frame(entry.getKey(), entry.getValue()));
+                expected++;
+            }
+            return frames;
+        }
+    }
+
+    public record Frame(long seq, byte[] json) {
+    }
+}
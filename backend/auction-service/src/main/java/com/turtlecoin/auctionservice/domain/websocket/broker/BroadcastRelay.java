@@ -0,0 +1,11 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+// 경매 브로드캐스트를 모든 인스턴스의 구독자에게 전달하는 계층
+public interface BroadcastRelay {
+    default void publish(String destination, Object payload) {
+        publish(destination, payload, null);
+    }
+
+    // seq가 있으면 STOMP seq 헤더로 전달되고, 재동기화(resync)용 ring에도 기록된다
+    void publish(String destination, Object payload, Long seq);
+}
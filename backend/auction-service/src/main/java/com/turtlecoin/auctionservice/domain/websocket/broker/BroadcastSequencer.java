@@ -0,0 +1,43 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 경매별 브로드캐스트 순번 (모든 인스턴스에서 단조 증가하도록 Redis INCR 사용)
+@Component
+@RequiredArgsConstructor
+public class BroadcastSequencer {
+    private static final String AUCTION_SEQ_KEY_PREFIX = "auction_seq_";
+    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    // 경매 종료 후 재접속한 클라이언트가 마지막 프레임을 받아갈 수 있도록 잠시 유지
+    private static final long RETENTION_HOURS = 1;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final DefaultRedisScript<Long> nextLiveSeqScript;
+
+    public Long next(Long auctionId) {
+        return redisTemplate.opsForValue().increment(AUCTION_SEQ_KEY_PREFIX + auctionId);
+    }
+
+    // 입찰 프레임용 순번, 이미 마감된 경매면 null (종료 프레임보다 뒤의 순번이 나가지 않도록)
+    public Long nextWhileLive(Long auctionId) {
+        return redisTemplate.execute(nextLiveSeqScript,
+                List.of(AUCTION_END_KEY_PREFIX + auctionId, AUCTION_SEQ_KEY_PREFIX + auctionId));
+    }
+
+    // 마지막으로 발행된 순번 (발행된 적이 없으면 0)
+    public long current(Long auctionId) {
+        Object value = redisTemplate.opsForValue().get(AUCTION_SEQ_KEY_PREFIX + auctionId);
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    // 경매 종료 시 호출
+    public void expire(Long auctionId) {
+        redisTemplate.expire(AUCTION_SEQ_KEY_PREFIX + auctionId, RETENTION_HOURS, TimeUnit.HOURS);
+    }
+}
@@ -0,0 +1,27 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+// 인스턴스가 하나일 때 사용하는 릴레이 (로컬 구독자에게만 전송)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "auction.broker.relay", havingValue = "local")
+public class LocalBroadcastRelay implements BroadcastRelay {
+    private final ObjectMapper objectMapper;
+    private final LocalBroadcaster localBroadcaster;
+
+    @Override
+    public void publish(String destination, Object payload, Long seq) {
+        try {
+            localBroadcaster.deliver(destination, payload, objectMapper.writeValueAsBytes(payload), seq);
+        } catch (JsonProcessingException e) {
+            log.error("브로드캐스트 직렬화 실패: destination = {}", destination, e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+
+// 이미 직렬화된 JSON을 이 인스턴스의 구독자에게만 전송
+// CBOR로 구독한 구독자가 있으면 같은 프레임을 한 번만 인코딩해서 "{destination}.cbor"로도 전송
+// (직렬화 전 객체가 있으면 객체에서 바로, 없으면 JSON에서 변환)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocalBroadcaster {
+    public static final String SEQ_HEADER = "seq";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final LocalSubscriptionRegistry subscriptionRegistry;
+    private final BroadcastFrameRing frameRing;
+    private final BinaryFrameEncoder binaryFrameEncoder;
+    private final ObjectMapper objectMapper;
+
+    public void deliver(String destination, byte[] json, Long seq) {
+        deliver(destination, null, json, seq);
+    }
+
+    public void deliver(String destination, Object payload, byte[] json, Long seq) {
+        // 순번이 있는 프레임은 구독자가 없어도 재동기화용으로 보관
+        if (seq != null) {
+            frameRing.append(destination, seq, json);
+        }
+        // 이 인스턴스에 구독자가 없으면 보내지 않는다
+        if (subscriptionRegistry.hasSubscribers(destination)) {
+            messagingTemplate.send(destination, createMessage(json, seq, MimeTypeUtils.APPLICATION_JSON));
+        }
+        String binaryDestination = BinaryFrameEncoder.binaryDestination(destination);
+        if (subscriptionRegistry.hasSubscribers(binaryDestination)) {
+            byte[] cbor = toBinary(destination, payload, json);
+            if (cbor != null) {
+                messagingTemplate.send(binaryDestination, createMessage(cbor, seq, BinaryFrameEncoder.APPLICATION_CBOR));
+            }
+        }
+    }
+
+    // 특정 유저에게만 전송 (/user/{userId}{destination})
+    public void deliverToUser(String userId, String destination, byte[] json, Long seq) {
+        deliverToUser(userId, destination, null, json, seq);
+    }
+
+    private void deliverToUser(String userId, String destination, Object payload, byte[] json, Long seq) {
+        messagingTemplate.send("/user/" + userId + destination, createMessage(json, seq, MimeTypeUtils.APPLICATION_JSON));
+        String binaryDestination = BinaryFrameEncoder.binaryDestination(destination);
+        if (subscriptionRegistry.hasSubscribers("/user/" + userId + binaryDestination)) {
+            byte[] cbor = toBinary(destination, payload, json);
+            if (cbor != null) {
+                messagingTemplate.send("/user/" + userId + binaryDestination,
+                        createMessage(cbor, seq, BinaryFrameEncoder.APPLICATION_CBOR));
+            }
+        }
+    }
+
+    // 객체를 직렬화해서 특정 유저에게 전송 (구독한 형식에 맞춰 JSON/CBOR)
+    public void sendToUser(String userId, String destination, Object payload) {
+        try {
+            deliverToUser(userId, destination, payload, objectMapper.writeValueAsBytes(payload), null);
+        } catch (JsonProcessingException e) {
+            log.error("유저 메시지 직렬화 실패: userId = {}, destination = {}", userId, destination, e);
+        }
+    }
+
+    // 유저의 특정 세션에만 전송
+    public void deliverToSession(String userId, String sessionId, String destination, byte[] json) {
+        messagingTemplate.send("/user/" + userId + destination,
+                createSessionMessage(sessionId, json, MimeTypeUtils.APPLICATION_JSON));
+        String binaryDestination = BinaryFrameEncoder.binaryDestination(destination);
+        if (subscriptionRegistry.hasSubscribers("/user/" + userId + binaryDestination)) {
+            byte[] cbor = toBinary(destination, null, json);
+            if (cbor != null) {
+                messagingTemplate.send("/user/" + userId + binaryDestination,
+                        createSessionMessage(sessionId, cbor, BinaryFrameEncoder.APPLICATION_CBOR));
+            }
+        }
+    }
+
+    private byte[] toBinary(String destination, Object payload, byte[] json) {
+        try {
+            return payload != null ? binaryFrameEncoder.encode(payload) : binaryFrameEncoder.fromJson(json);
+        } catch (IOException e) {
+            log.error("CBOR 변환 실패: destination = {}", destination, e);
+            return null;
+        }
+    }
+
+    private Message<byte[]> createMessage(byte[] payload, Long seq, MimeType contentType) {
+        return MessageBuilder.createMessage(payload, createAccessor(seq, contentType).getMessageHeaders());
+    }
+
+    private Message<byte[]> createSessionMessage(String sessionId, byte[] payload, MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = createAccessor(null, contentType);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    private SimpMessageHeaderAccessor createAccessor(Long seq, MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        if (seq != null) {
+            accessor.setNativeHeader(SEQ_HEADER, seq.toString());
+        }
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+}
@@ -0,0 +1,87 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 이 인스턴스에 연결된 세션들의 구독 현황 (destination -> 구독 목록)
+// 유저 destination(/user/queue/...)은 유저별로 "/user/{userName}/queue/..." 형태로 기록
+@Component
+public class LocalSubscriptionRegistry {
+    private static final String USER_PREFIX = "/user/";
+
+    // destination -> "sessionId:subscriptionId"
+    private final Map<String, Set<String>> subscribersByDestination = new ConcurrentHashMap<>();
+    // sessionId -> (subscriptionId -> destination)
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+
+    public boolean hasSubscribers(String destination) {
+        Set<String> subscribers = subscribersByDestination.get(destination);
+        return subscribers != null && !subscribers.isEmpty();
+    }
+
+    public int countSubscribers(String destination) {
+        Set<String> subscribers = subscribersByDestination.get(destination);
+        return subscribers == null ? 0 : subscribers.size();
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        String destination = userScoped(accessor.getDestination(), event.getUser());
+        if (sessionId == null || subscriptionId == null || destination == null) {
+            return;
+        }
+        subscriptionsBySession.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, destination);
+        subscribersByDestination.computeIfAbsent(destination, key -> ConcurrentHashMap.newKeySet())
+                .add(sessionId + ":" + subscriptionId);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = subscriptionsBySession.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            removeSubscriber(destination, accessor.getSessionId() + ":" + accessor.getSubscriptionId());
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        subscriptions.forEach((subscriptionId, destination) ->
+                removeSubscriber(destination, event.getSessionId() + ":" + subscriptionId));
+    }
+
+    private String userScoped(String destination, Principal user) {
+        if (destination == null || user == null || !destination.startsWith(USER_PREFIX)) {
+            return destination;
+        }
+        return USER_PREFIX + user.getName() + destination.substring(USER_PREFIX.length() - 1);
+    }
+
+    private void removeSubscriber(String destination, String subscriber) {
+        subscribersByDestination.computeIfPresent(destination, (key, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
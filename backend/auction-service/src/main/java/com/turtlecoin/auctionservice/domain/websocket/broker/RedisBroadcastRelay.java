@@ -0,0 +1,63 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// Redis pub/sub으로 모든 인스턴스에 브로드캐스트를 퍼뜨리고,
+// 각 인스턴스는 자신에게 연결된 구독자에게만 다시 전송한다
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.broker.relay", havingValue = "redis", matchIfMissing = true)
+public class RedisBroadcastRelay implements BroadcastRelay, MessageListener {
+    private static final String BROADCAST_CHANNEL = "auction:broadcast";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final LocalBroadcaster localBroadcaster;
+
+    public RedisBroadcastRelay(RedisTemplate<String, Object> redisTemplate,
+                               ObjectMapper objectMapper,
+                               LocalBroadcaster localBroadcaster,
+                               RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localBroadcaster = localBroadcaster;
+        listenerContainer.addMessageListener(this, new ChannelTopic(BROADCAST_CHANNEL));
+    }
+
+    // 메시지 형식: "{destination}\n{seq (없으면 빈 문자열)}\n{payload JSON}"
+    @Override
+    public void publish(String destination, Object payload, Long seq) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            redisTemplate.convertAndSend(BROADCAST_CHANNEL, destination + "\n" + (seq == null ? "" : seq) + "\n" + json);
+        } catch (JsonProcessingException e) {
+            log.error("브로드캐스트 직렬화 실패: destination = {}", destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('\n');
+        int seqSeparator = separator < 0 ? -1 : body.indexOf('\n', separator + 1);
+        if (seqSeparator < 0) {
+            log.warn("잘못된 브로드캐스트 메시지: {}", body);
+            return;
+        }
+        String destination = body.substring(0, separator);
+        String seq = body.substring(separator + 1, seqSeparator);
+        localBroadcaster.deliver(destination, body.substring(seqSeparator + 1).getBytes(StandardCharsets.UTF_8),
+                seq.isEmpty() ? null : Long.valueOf(seq));
+    }
+}
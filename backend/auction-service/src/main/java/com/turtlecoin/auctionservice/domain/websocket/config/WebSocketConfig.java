@@ -1,15 +1,21 @@
 package com.turtlecoin.auctionservice.domain.websocket.config;
 
 
+import com.turtlecoin.auctionservice.domain.websocket.interceptor.FrameEncodingInterceptor;
 import com.turtlecoin.auctionservice.domain.websocket.interceptor.WebSocketHandshakeInterceptor;
-import com.turtlecoin.auctionservice.feign.MainClient;
-import com.turtlecoin.auctionservice.global.utils.JWTUtil;
+import com.turtlecoin.auctionservice.domain.websocket.session.MonitoredWebSocketHandler;
+import com.turtlecoin.auctionservice.domain.websocket.session.OutboundQueueInterceptor;
+import com.turtlecoin.auctionservice.domain.websocket.session.WebSocketSessionMonitor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.*;
 import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
@@ -22,13 +28,39 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
-    private final JWTUtil jwtUtil;
-    private final MainClient mainClient;
-    private final RedisTemplate redisTemplate;
+    private final WebSocketHandshakeInterceptor webSocketHandshakeInterceptor;
+    private final WebSocketSessionMonitor webSocketSessionMonitor;
+    private final OutboundQueueInterceptor outboundQueueInterceptor;
+    private final FrameEncodingInterceptor frameEncodingInterceptor;
+
+    @Value("${auction.ws.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+    @Value("${auction.ws.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+    @Value("${auction.ws.message-size-limit:65536}")
+    private int messageSizeLimit;
+    @Value("${auction.ws.heartbeat-ms:10000}")
+    private long heartbeatMs;
+    @Value("${auction.ws.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+    @Value("${auction.ws.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+    @Value("${auction.ws.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // 브로커 heartbeat 전송용 스케줄러 (Spring이 만드는 messageBrokerTaskScheduler를 사용)
+    @Autowired
+    public void setMessageBrokerTaskScheduler(@Lazy TaskScheduler messageBrokerTaskScheduler) {
+        this.messageBrokerTaskScheduler = messageBrokerTaskScheduler;
+    }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/sub", "/queue"); // 메세지 받을 때 경로
+        config.enableSimpleBroker("/sub", "/queue") // 메세지 받을 때 경로
+                .setHeartbeatValue(new long[]{heartbeatMs, heartbeatMs})
+                .setTaskScheduler(messageBrokerTaskScheduler);
         config.setApplicationDestinationPrefixes("/pub"); // 메세지 보낼 때 경로
         config.setUserDestinationPrefix("/user"); // user로 사용자 경로 구분
 
@@ -43,11 +75,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                         return (Principal) attributes.get("principal");
                     }
                 })
-                .addInterceptors(new WebSocketHandshakeInterceptor(jwtUtil, mainClient, redisTemplate));
+                .addInterceptors(webSocketHandshakeInterceptor);
+    }
+    // 세션별 전송 제한: 한 세션에 전송이 sendTimeLimit 이상 막히거나 버퍼가 넘치면 해당 세션만 종료된다
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setMessageSizeLimit(messageSizeLimit)
+                .addDecoratorFactory(handler -> new MonitoredWebSocketHandler(handler, webSocketSessionMonitor));
     }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+        registration.interceptors(outboundQueueInterceptor);
+    }
+
     @Override
-    public void configureClientInboundChannel(org.springframework.messaging.simp.config.ChannelRegistration registration) {
+    public void configureClientInboundChannel(ChannelRegistration registration) {
 //        registration.interceptors(jwtChannelInterceptor); // STOMP 메시지 인터셉터 추가
+        // content-type: application/cbor로 구독하면 CBOR 프레임 destination으로 바꿔서 구독
+        registration.interceptors(frameEncodingInterceptor);
     }
 
 }
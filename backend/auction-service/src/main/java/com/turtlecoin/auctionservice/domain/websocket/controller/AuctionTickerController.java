@@ -0,0 +1,26 @@
+package com.turtlecoin.auctionservice.domain.websocket.controller;
+
+import com.turtlecoin.auctionservice.domain.websocket.dto.TickerWatchRequest;
+import com.turtlecoin.auctionservice.domain.websocket.ticker.TickerWatchRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Slf4j
+@Controller
+@RequiredArgsConstructor
+public class AuctionTickerController {
+    private final TickerWatchRegistry tickerWatchRegistry;
+
+    // 목록 화면에서 보고 있는 경매 등록 (/pub/auction/ticker/watch)
+    // 이후 /user/queue/auction/ticker로 등록한 경매의 시세가 주기적으로 전송된다
+    @MessageMapping("/auction/ticker/watch")
+    public void watch(TickerWatchRequest request, SimpMessageHeaderAccessor headerAccessor, Principal principal) {
+        tickerWatchRegistry.watch(headerAccessor.getSessionId(), principal.getName(), request.getAuctionIds());
+        log.info("시세 구독 갱신: sessionId = {}, auctionIds = {}", headerAccessor.getSessionId(), request.getAuctionIds());
+    }
+}
@@ -1,10 +1,22 @@
 package com.turtlecoin.auctionservice.domain.websocket.controller;
 
-import com.turtlecoin.auctionservice.domain.auction.entity.Auction;
+import com.turtlecoin.auctionservice.domain.auction.actor.AuctionOwnershipResolver;
+import com.turtlecoin.auctionservice.domain.auction.admission.BidAdmissionGate;
+import com.turtlecoin.auctionservice.domain.auction.admission.BidDeduplicator;
+import com.turtlecoin.auctionservice.domain.auction.actor.BidActorExecutor;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMeta;
+import com.turtlecoin.auctionservice.domain.auction.cache.AuctionMetaCache;
 import com.turtlecoin.auctionservice.domain.auction.facade.RedissonLockFacade;
 import com.turtlecoin.auctionservice.domain.auction.repository.AuctionRepository;
+import com.turtlecoin.auctionservice.domain.auction.service.BidHistoryService;
 import com.turtlecoin.auctionservice.domain.auction.service.BidService;
+import com.turtlecoin.auctionservice.domain.websocket.dto.AuctionInitRequest;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BroadcastFrameRing;
+import com.turtlecoin.auctionservice.domain.websocket.broker.BroadcastSequencer;
+import com.turtlecoin.auctionservice.domain.websocket.broker.LocalBroadcaster;
 import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import com.turtlecoin.auctionservice.domain.websocket.dto.ProxyBidMessage;
+import com.turtlecoin.auctionservice.domain.websocket.dto.ResyncRequest;
 import com.turtlecoin.auctionservice.feign.MainClient;
 import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
 import com.turtlecoin.auctionservice.global.exception.*;
@@ -21,6 +33,7 @@ import org.springframework.stereotype.Controller;
 
 import java.security.Principal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -38,17 +51,29 @@ public class AuctionWebSocketController {
     private final AuctionRepository auctionRepository;
     private final JWTUtil jwtUtil;
     private final BidService bidService;
+    private final BidHistoryService bidHistoryService;
+    private final AuctionMetaCache auctionMetaCache;
+    private final BidActorExecutor bidActorExecutor;
+    private final AuctionOwnershipResolver auctionOwnershipResolver;
+    private final BidAdmissionGate bidAdmissionGate;
+    private final BidDeduplicator bidDeduplicator;
+    private final BroadcastFrameRing broadcastFrameRing;
+    private final LocalBroadcaster localBroadcaster;
+    private final BroadcastSequencer broadcastSequencer;
 //    private final BidService bidService;
 
     @MessageMapping("/auction/{auctionId}/init")
-    public void sendInitialData(@DestinationVariable Long auctionId, Principal principal) {
-        Auction auction = auctionRepository.findById(auctionId).orElseThrow(() -> new AuctionNotFoundException("경매가 존재하지 않습니다."));
+    public void sendInitialData(@DestinationVariable Long auctionId,
+                                @Payload(required = false) AuctionInitRequest initRequest,
+                                Principal principal) {
+        AuctionMeta auction = auctionMetaCache.get(auctionId);
         String bidKey = AUCTION_BID_KEY+auctionId;
-        String endKey = AUCTION_END_KEY_PREFIX+auctionId;
-
         Long userId = Long.valueOf(principal.getName());
 
-        Long remainingTime = redisTemplate.getExpire(endKey, TimeUnit.MILLISECONDS);
+        // 마감 시각으로 남은 시간 계산 (진행 중이 아니면 기존과 같이 -2)
+        Long endAt = bidService.getAuctionEndAt(auctionId);
+        long serverTime = System.currentTimeMillis();
+        Long remainingTime = endAt == null ? -2L : Math.max(0, endAt - serverTime);
 
         if (!redisTemplate.hasKey(bidKey)) {
             log.warn("Redis에 키가 존재하지 않습니다. 기본값을 사용합니다.");
@@ -63,13 +88,14 @@ public class AuctionWebSocketController {
             initialData.put("bidAmount", nowBid);
             initialData.put("nextBid", nextBid);
             initialData.put("remainingTime", remainingTime);
+            initialData.put("endAt", endAt);
+            initialData.put("serverTime", serverTime);
+            // 이 시점 이후의 프레임은 resync로 받을 수 있도록 현재 순번도 함께 전송
+            initialData.put("seq", broadcastSequencer.current(auctionId));
 
             // 클라이언트에게 데이터 전송
-            String destination = "/queue/auction/" + auctionId + "/init";
-
         // /user/{userId}/queue/auction/{auctionId}/init
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.bidSuccess("Join", "200", initialData));
+            sendInit(userId, auctionId, initRequest, initialData);
 
             log.info("기본값을 사용하여 유저에게 데이터 전송 완료: userId={}, auctionId={}", userId, auctionId);
         } else {
@@ -86,16 +112,56 @@ public class AuctionWebSocketController {
             initialData.put("bidAmount", nowBid);
             initialData.put("nextBid", nextBid);
             initialData.put("remainingTime", remainingTime);
+            initialData.put("endAt", endAt);
+            initialData.put("serverTime", serverTime);
+            // 이 시점 이후의 프레임은 resync로 받을 수 있도록 현재 순번도 함께 전송
+            initialData.put("seq", broadcastSequencer.current(auctionId));
 
             // 클라이언트에게 데이터 전송
-            String destination = "/queue/auction/" + auctionId + "/init";
-            messagingTemplate.convertAndSendToUser(userId.toString(), destination,
-                    ResponseVO.bidSuccess("Join", "200", initialData));
+            sendInit(userId, auctionId, initRequest, initialData);
 
             log.info("Redis 유저에게 데이터 전송 완료: userId={}, auctionId={}", userId, auctionId);
         }
     }
 
+    // 요청한 경우에만 최근 입찰 이력을 함께 전송 (늦게 들어온 참가자용)
+    // 이력을 로컬 ring만으로 채울 수 없으면 DB/닉네임 조회가 끝난 뒤 조회 스레드에서 전송한다 (inbound 스레드를 막지 않음)
+    private void sendInit(Long userId, Long auctionId, AuctionInitRequest initRequest, Map<String, Object> initialData) {
+        String destination = "/queue/auction/" + auctionId + "/init";
+        if (initRequest == null || initRequest.getHistory() == null || initRequest.getHistory() <= 0) {
+            localBroadcaster.sendToUser(userId.toString(), destination,
+                    ResponseVO.bidSuccess("Join", "200", initialData));
+            return;
+        }
+        bidHistoryService.getRecentBidsAsync(auctionId, initRequest.getHistory()).whenComplete((history, e) -> {
+            if (e != null) {
+                log.warn("입찰 이력 조회 실패로 이력 없이 전송: auctionId = {}, error = {}", auctionId, e.getMessage());
+            } else {
+                initialData.put("bidHistory", history);
+            }
+            localBroadcaster.sendToUser(userId.toString(), destination,
+                    ResponseVO.bidSuccess("Join", "200", initialData));
+        });
+    }
+
+    // 재접속한 클라이언트가 놓친 프레임만 다시 받기 (/pub/auction/{auctionId}/resync)
+    // 놓친 프레임은 /user/queue/auction/{auctionId}/resync로 seq 헤더와 함께 원래 순서대로 전송되고,
+    // ring에 남아 있지 않아 채울 수 없으면 init과 같은 전체 데이터를 보낸다
+    @MessageMapping("/auction/{auctionId}/resync")
+    public void resync(@DestinationVariable Long auctionId, ResyncRequest resyncRequest, Principal principal) {
+        List<BroadcastFrameRing.Frame> frames = resyncRequest.getAfterSeq() == null ? null
+                : broadcastFrameRing.framesAfter("/sub/auction/" + auctionId, resyncRequest.getAfterSeq());
+        if (frames == null) {
+            sendInitialData(auctionId, null, principal);
+            return;
+        }
+        String destination = "/queue/auction/" + auctionId + "/resync";
+        for (BroadcastFrameRing.Frame frame : frames) {
+            localBroadcaster.deliverToUser(principal.getName(), destination, frame.json(), frame.seq());
+        }
+        log.info("재동기화 완료: auctionId = {}, afterSeq = {}, frames = {}", auctionId, resyncRequest.getAfterSeq(), frames.size());
+    }
+
     // 클라이언트가 특정 경매에 입찰을 보낼 때 (/pub/auction/{auctionId}/bid)
     @MessageMapping("/auction/{auctionId}/bid")
     public void handleBid(@DestinationVariable Long auctionId, BidMessage bidMessage, Principal principal) {
@@ -108,31 +174,124 @@ public class AuctionWebSocketController {
 
         log.info("socketUserId : {}", socketUserId);
 
+        // 재전송된 입찰은 다시 처리하지 않고 처음 결과를 돌려준다 (처리 중이면 무시)
+        String bidId = bidMessage.getBidId();
+        BidDeduplicator.Outcome previous = bidDeduplicator.begin(socketUserId, bidId);
+        if (previous != null) {
+            replayOutcome(socketUserId, auctionId, bidId, previous);
+            return;
+        }
+
+        // 도배성 요청은 락/스크립트 실행 전에 거절
+        if (!bidAdmissionGate.tryAdmit(socketUserId, auctionId)) {
+            // 거절된 입찰은 나중에 같은 bidId로 다시 시도할 수 있도록 기록하지 않는다
+            bidDeduplicator.forget(socketUserId, bidId);
+            sendFailureMessage(socketUserId, auctionId, "429", "입찰 요청이 너무 많습니다. 잠시 후 다시 시도하세요.");
+            return;
+        }
+
+        // 이 인스턴스가 담당하는 경매면 메일박스에서 순서대로 처리하고,
+        // 다른 인스턴스 담당(REMOTE)이거나 담당을 모르면(UNKNOWN) 기존 락 경로로 처리
+        if (bidActorExecutor.isEnabled()
+                && auctionOwnershipResolver.resolve(auctionId) == AuctionOwnershipResolver.Ownership.LOCAL
+                && bidActorExecutor.submit(auctionId, () -> processBid(auctionId, userId, nextBid, socketUserId, bidId, true))) {
+            return;
+        }
+        processBid(auctionId, userId, nextBid, socketUserId, bidId, false);
+    }
+
+    private void processBid(Long auctionId, Long userId, Double nextBid, Long socketUserId, String bidId, boolean ordered) {
         try {
-            redissonLockFacade.updateBidWithLock(auctionId, userId, nextBid, socketUserId);
+            if (ordered) {
+                bidService.processBidWithRedis(auctionId, userId, nextBid);
+            } else {
+                redissonLockFacade.updateBidWithLock(auctionId, userId, nextBid, socketUserId);
+            }
+            bidDeduplicator.complete(socketUserId, bidId, BidDeduplicator.Outcome.SUCCESS);
             log.info("입찰이 성공적으로 처리되었습니다: auctionId = {}, userId = {}, bidAmount = {}", auctionId, userId, nextBid);
-        } catch (SameUserBidException e) {
-            sendFailureMessage(socketUserId, auctionId, "400", "자신의 입찰에 재입찰 할 수 없습니다.");
+        } catch (Exception e) {
+            BidDeduplicator.Outcome outcome = toFailureOutcome(e);
+            bidDeduplicator.complete(socketUserId, bidId, outcome);
+            sendFailureMessage(socketUserId, auctionId, outcome.code(), outcome.message());
+        }
+    }
+
+    private void replayOutcome(Long socketUserId, Long auctionId, String bidId, BidDeduplicator.Outcome outcome) {
+        log.info("재전송된 입찰: auctionId = {}, userId = {}, bidId = {}", auctionId, socketUserId, bidId);
+        if (outcome.isPending()) {
+            return;
+        }
+        if (outcome.isSuccess()) {
+            Map<String, Object> data = new HashMap<>();
+            data.put("bidId", bidId);
+            localBroadcaster.sendToUser(socketUserId.toString(), "/queue/auction/" + auctionId + "/init",
+                    ResponseVO.bidSuccess("BidAck", "200", data));
+            return;
+        }
+        sendFailureMessage(socketUserId, auctionId, outcome.code(), outcome.message());
+    }
+
+    // 자동 입찰 등록 (/pub/auction/{auctionId}/proxy)
+    // 최대 금액은 본인에게만 응답하고, 가격이 바뀐 경우에만 경매 구독자들에게 한 번 브로드캐스트된다
+    @MessageMapping("/auction/{auctionId}/proxy")
+    public void handleProxyBid(@DestinationVariable Long auctionId, ProxyBidMessage proxyBidMessage, Principal principal) {
+        Long socketUserId = Long.valueOf(principal.getName());
+        Double maxBid = proxyBidMessage.getMaxBid();
+        if (!bidAdmissionGate.tryAdmit(socketUserId, auctionId)) {
+            sendFailureMessage(socketUserId, auctionId, "429", "입찰 요청이 너무 많습니다. 잠시 후 다시 시도하세요.");
+            return;
+        }
+        if (maxBid == null || maxBid <= 0) {
+            sendFailureMessage(socketUserId, auctionId, "400", "자동 입찰 최대 금액이 올바르지 않습니다.");
+            return;
+        }
+
+        if (bidActorExecutor.isEnabled()
+                && auctionOwnershipResolver.resolve(auctionId) == AuctionOwnershipResolver.Ownership.LOCAL
+                && bidActorExecutor.submit(auctionId, () -> processProxyBid(auctionId, socketUserId, maxBid))) {
+            return;
+        }
+        processProxyBid(auctionId, socketUserId, maxBid);
+    }
+
+    private void processProxyBid(Long auctionId, Long socketUserId, Double maxBid) {
+        try {
+            bidService.registerProxyBid(auctionId, socketUserId, maxBid);
+            Map<String, Object> data = new HashMap<>();
+            data.put("maxBid", maxBid);
+            localBroadcaster.sendToUser(socketUserId.toString(), "/queue/auction/" + auctionId + "/init",
+                    ResponseVO.bidSuccess("Proxy", "200", data));
+            log.info("자동 입찰이 등록되었습니다: auctionId = {}, userId = {}", auctionId, socketUserId);
         } catch (WrongBidAmountException e) {
-            sendFailureMessage(socketUserId, auctionId, "400", "현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다.");
-        } catch (AuctionTimeNotValidException e) {
-            sendFailureMessage(socketUserId, auctionId, "422", "입찰 가능한 시간이 아닙니다.");
-        } catch (AuctionAlreadyFinishedException e) {
-            sendFailureMessage(socketUserId, auctionId, "400", "이미 종료된 경매입니다.");
-        } catch (BidConcurrencyException e) {
-            sendFailureMessage(socketUserId, auctionId, "409", "다른 사람이 입찰 중입니다. 잠시 후 다시 시도하세요.");
-        } catch (BidNotValidException e) {
-            sendFailureMessage(socketUserId, auctionId, "400", "자신의 경매에 입찰할 수 없습니다.");
-        } catch (AuctionNotFoundException e) {
-            sendFailureMessage(socketUserId, auctionId, "404", "해당 경매를 찾을 수 없습니다.");
+            sendFailureMessage(socketUserId, auctionId, "400", "자동 입찰 최대 금액은 다음 입찰가와 기존 최대 금액보다 커야 합니다.");
         } catch (Exception e) {
-            sendFailureMessage(socketUserId, auctionId, "500", "입찰 처리 중 오류가 발생했습니다.");
+            BidDeduplicator.Outcome outcome = toFailureOutcome(e);
+            sendFailureMessage(socketUserId, auctionId, outcome.code(), outcome.message());
+        }
+    }
+
+    private BidDeduplicator.Outcome toFailureOutcome(Exception e) {
+        if (e instanceof SameUserBidException) {
+            return new BidDeduplicator.Outcome("400", "자신의 입찰에 재입찰 할 수 없습니다.");
+        } else if (e instanceof WrongBidAmountException) {
+            return new BidDeduplicator.Outcome("400", "현재 입찰가보다 낮거나 같은 금액으로 입찰할 수 없습니다.");
+        } else if (e instanceof AuctionTimeNotValidException) {
+            return new BidDeduplicator.Outcome("422", "입찰 가능한 시간이 아닙니다.");
+        } else if (e instanceof AuctionAlreadyFinishedException) {
+            return new BidDeduplicator.Outcome("400", "이미 종료된 경매입니다.");
+        } else if (e instanceof BidConcurrencyException) {
+            return new BidDeduplicator.Outcome("409", "다른 사람이 입찰 중입니다. 잠시 후 다시 시도하세요.");
+        } else if (e instanceof BidNotValidException) {
+            return new BidDeduplicator.Outcome("400", "자신의 경매에 입찰할 수 없습니다.");
+        } else if (e instanceof AuctionNotFoundException) {
+            return new BidDeduplicator.Outcome("404", "해당 경매를 찾을 수 없습니다.");
         }
+        return new BidDeduplicator.Outcome("500", "입찰 처리 중 오류가 발생했습니다.");
     }
 
     private void sendFailureMessage(Long socketUserId, Long auctionId, String errorCode, String message) {
         String destination = "/queue/auction/" + auctionId + "/init";
-        messagingTemplate.convertAndSendToUser(socketUserId.toString(), destination,
+        localBroadcaster.sendToUser(socketUserId.toString(), destination,
                 ResponseVO.failure("Bid", errorCode, message));
     }
 
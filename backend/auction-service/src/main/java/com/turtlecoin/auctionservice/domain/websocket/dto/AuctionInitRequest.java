@@ -0,0 +1,12 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import lombok.*;
+
+// /pub/auction/{auctionId}/init 요청 본문 (비어 있어도 됨)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionInitRequest {
+    // 함께 받을 최근 입찰 수 (0이면 입찰 이력 없이 현재 가격만 전송)
+    private Integer history;
+}
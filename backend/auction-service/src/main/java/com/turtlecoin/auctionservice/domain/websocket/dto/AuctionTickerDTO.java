@@ -0,0 +1,18 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import lombok.*;
+
+// 경매 목록 화면용 진행 중 경매의 현재 가격/마감 정보
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionTickerDTO {
+    private Long auctionId;
+    // 입찰이 없으면 null
+    private Double nowBid;
+    private Double nextBid;
+    // 마감 시각(epoch ms)
+    private Long endAt;
+    private Long remainingTime;
+}
@@ -0,0 +1,45 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 입찰 브로드캐스트용 축약 프레임 (변경된 값만, 짧은 키로 전송)
+@Getter
+@Builder
+@AllArgsConstructor
+public class BidDeltaFrame {
+    @JsonProperty("t")
+    @Builder.Default
+    private final String type = "B";
+
+    @JsonProperty("a")
+    private final Double bidAmount;
+
+    @JsonProperty("n")
+    private final Double nextBid;
+
+    @JsonProperty("u")
+    private final String nickname;
+
+    @JsonProperty("r")
+    private final Long remainingTime;
+
+    @JsonProperty("e")
+    private final Long endAt;
+
+    @JsonProperty("s")
+    private final Long serverTime;
+
+    public static BidDeltaFrame from(BidMessage bidMessage) {
+        return BidDeltaFrame.builder()
+                .bidAmount(bidMessage.getBidAmount())
+                .nextBid(bidMessage.getNextBid())
+                .nickname(bidMessage.getNickname())
+                .remainingTime(bidMessage.getRemainingTime() == null ? null : bidMessage.getRemainingTime().longValue())
+                .endAt(bidMessage.getEndAt())
+                .serverTime(bidMessage.getServerTime())
+                .build();
+    }
+}
@@ -4,14 +4,19 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import lombok.*;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BidMessage {
+    // 클라이언트가 생성한 입찰 ID (재전송 시 같은 값을 보내면 한 번만 처리됨)
+    private String bidId;
     private Long auctionId;
     private Long userId;
     private String nickname;
     private Double bidAmount;
     private Double nextBid;
     private Double remainingTime;
+    // 마감 시각(epoch ms)과 전송 시점의 서버 시각
+    private Long endAt;
+    private Long serverTime;
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import lombok.*;
+
+// 자동 입찰 등록 요청 (/pub/auction/{auctionId}/proxy)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProxyBidMessage {
+    // 이 금액까지 자동으로 입찰 (다른 사용자에게는 공개되지 않음)
+    private Double maxBid;
+}
@@ -0,0 +1,12 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import lombok.*;
+
+// 재동기화 요청 (/pub/auction/{auctionId}/resync)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResyncRequest {
+    // 클라이언트가 마지막으로 받은 seq
+    private Long afterSeq;
+}
@@ -0,0 +1,13 @@
+package com.turtlecoin.auctionservice.domain.websocket.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+// 시세를 받을 경매 목록 등록 (/pub/auction/ticker/watch), 빈 목록이면 해제
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TickerWatchRequest {
+    private List<Long> auctionIds;
+}
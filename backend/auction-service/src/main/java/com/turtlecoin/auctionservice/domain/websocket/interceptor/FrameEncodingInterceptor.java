@@ -0,0 +1,65 @@
+package com.turtlecoin.auctionservice.domain.websocket.interceptor;
+
+import com.turtlecoin.auctionservice.domain.websocket.broker.BinaryFrameEncoder;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+// SUBSCRIBE 프레임에 content-type: application/cbor가 있으면 경매 프레임을 CBOR로 받는 destination으로 바꿔서 구독
+// (/sub/auction/{id} -> /sub/auction/{id}.cbor, /user/queue/auction/{id}/init -> /user/queue/auction/{id}/init.cbor)
+// 구독 id는 그대로이므로 클라이언트는 원래 구독 콜백으로 프레임을 받는다
+@Component
+public class FrameEncodingInterceptor implements ChannelInterceptor {
+    private static final String[] BINARY_DESTINATION_PREFIXES = {"/sub/auction/", "/user/queue/auction/"};
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() != StompCommand.SUBSCRIBE || !wantsBinary(accessor)) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (!supportsBinary(destination)) {
+            return message;
+        }
+        String binaryDestination = BinaryFrameEncoder.binaryDestination(destination);
+        // 구독 이벤트(LocalSubscriptionRegistry)도 바뀐 destination을 보도록 가능하면 헤더를 그대로 수정
+        if (accessor.isMutable()) {
+            accessor.setDestination(binaryDestination);
+            return message;
+        }
+        StompHeaderAccessor copy = StompHeaderAccessor.wrap(message);
+        copy.setDestination(binaryDestination);
+        return MessageBuilder.createMessage(message.getPayload(), copy.getMessageHeaders());
+    }
+
+    private boolean wantsBinary(StompHeaderAccessor accessor) {
+        String contentType = accessor.getFirstNativeHeader(StompHeaderAccessor.STOMP_CONTENT_TYPE_HEADER);
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            return BinaryFrameEncoder.APPLICATION_CBOR.equalsTypeAndSubtype(MimeType.valueOf(contentType));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private boolean supportsBinary(String destination) {
+        if (destination == null || destination.endsWith(BinaryFrameEncoder.DESTINATION_SUFFIX)) {
+            return false;
+        }
+        for (String prefix : BINARY_DESTINATION_PREFIXES) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
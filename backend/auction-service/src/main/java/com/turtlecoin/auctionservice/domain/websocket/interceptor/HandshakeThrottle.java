@@ -0,0 +1,45 @@
+package com.turtlecoin.auctionservice.domain.websocket.interceptor;
+
+import com.turtlecoin.auctionservice.domain.auction.admission.TokenBucket;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+// 경매 시작 직후처럼 연결이 한꺼번에 몰릴 때 WebSocket 핸드셰이크 유입 제한
+// 버킷이 비면 503 + Retry-After(무작위 초)로 돌려보내서 재연결 시점을 분산시킨다
+@Component
+public class HandshakeThrottle {
+    private final boolean enabled;
+    private final int retryAfterMaxSeconds;
+    private final TokenBucket bucket;
+    private final Counter shedCounter;
+
+    public HandshakeThrottle(MeterRegistry meterRegistry,
+                             @Value("${auction.ws.handshake.throttle.enabled:true}") boolean enabled,
+                             @Value("${auction.ws.handshake.throttle.rate:300}") double rate,
+                             @Value("${auction.ws.handshake.throttle.burst:600}") double burst,
+                             @Value("${auction.ws.handshake.throttle.retry-after-max-seconds:5}") int retryAfterMaxSeconds) {
+        this.enabled = enabled;
+        this.retryAfterMaxSeconds = Math.max(1, retryAfterMaxSeconds);
+        this.bucket = new TokenBucket(rate, burst);
+        this.shedCounter = Counter.builder("websocket.handshake.shed")
+                .description("유입 제한으로 거절된 WebSocket 핸드셰이크 수")
+                .register(meterRegistry);
+    }
+
+    public boolean tryAdmit() {
+        if (!enabled || bucket.tryAcquire()) {
+            return true;
+        }
+        shedCounter.increment();
+        return false;
+    }
+
+    // 거절된 클라이언트가 다시 시도할 때까지 기다릴 시간(초), 1 ~ retryAfterMaxSeconds
+    public int retryAfterSeconds() {
+        return ThreadLocalRandom.current().nextInt(1, retryAfterMaxSeconds + 1);
+    }
+}
@@ -1,64 +1,79 @@
 package com.turtlecoin.auctionservice.domain.websocket.interceptor;
 
-import com.turtlecoin.auctionservice.feign.MainClient;
-import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
+import com.turtlecoin.auctionservice.feign.service.NicknamePrefetcher;
 import com.turtlecoin.auctionservice.global.config.StompPrincipal;
 import com.turtlecoin.auctionservice.global.utils.JWTUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
 
 import java.security.Principal;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
+    private static final String ACCESS_CATEGORY = "access";
+
     private final JWTUtil jwtUtil;
-    private final MainClient mainClient;
-    private final RedisTemplate redisTemplate;
-    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    private final HandshakeThrottle handshakeThrottle;
+    private final NicknamePrefetcher nicknamePrefetcher;
 
+    // 토큰 클레임만으로 인증하고, 닉네임 등 프로필은 핸드셰이크가 끝난 뒤 모아서 조회한다
+    // (main-service 지연이 핸드셰이크 시간에 영향을 주지 않도록)
     @Override
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
                                    WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
+        // 연결이 몰리면 토큰 검증 전에 바로 돌려보낸다
+        if (!handshakeThrottle.tryAdmit()) {
+            response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(handshakeThrottle.retryAfterSeconds()));
+            return false;
+        }
 
         HttpHeaders headers = request.getHeaders();
         String token = headers.getFirst("Authorization");
-        log.info("Token : {}", token);
-        System.out.println("Token : "+ token);
 
         if (token == null || !token.startsWith("Bearer ")) {
             log.warn("Authorization 헤더가 없거나 잘못되었습니다.");
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
             return false; // 토큰이 유효하지 않으면 핸드셰이크를 중단할 수 있습니다.
         }
 
-        Long userId = jwtUtil.getIdFromToken(token.substring(7));
+        Long userId;
+        try {
+            Claims claims = jwtUtil.parseClaims(token.substring(7));
+            if (!ACCESS_CATEGORY.equals(claims.get("category", String.class))) {
+                log.warn("access 토큰이 아닙니다.");
+                response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                return false;
+            }
+            userId = claims.get("id", Long.class);
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        if (userId == null) {
+            log.warn("토큰에 유저 ID가 없습니다.");
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
 
         log.info("userId: {}", userId);
 
-        UserResponseDTO user = mainClient.getUserById(userId);
-        if (user != null) {
-            String nickname = user.getNickname();
-            attributes.put("nickname", nickname);
-            log.info("유저 nickname 캐싱: {}", nickname);
-        } else {
-            log.warn("유저 정보를 찾을 수 없습니다.");
-        }
+        // 입찰 브로드캐스트에서 바로 쓸 수 있도록 닉네임 캐시는 백그라운드에서 모아서 채운다
+        nicknamePrefetcher.request(userId);
 
         Principal userPrincipal = new StompPrincipal(userId.toString());
         attributes.put("principal", userPrincipal);
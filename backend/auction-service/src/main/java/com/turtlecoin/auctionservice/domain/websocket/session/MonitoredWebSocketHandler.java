@@ -0,0 +1,51 @@
+package com.turtlecoin.auctionservice.domain.websocket.session;
+
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+
+// 세션의 실제 전송(sendMessage)에 걸린 시간과 바이트를 WebSocketSessionMonitor에 기록
+public class MonitoredWebSocketHandler extends WebSocketHandlerDecorator {
+    private final WebSocketSessionMonitor monitor;
+
+    public MonitoredWebSocketHandler(WebSocketHandler delegate, WebSocketSessionMonitor monitor) {
+        super(delegate);
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        monitor.register(session);
+        super.afterConnectionEstablished(new MonitoredSession(session, monitor));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        monitor.unregister(session.getId());
+        super.afterConnectionClosed(session, closeStatus);
+    }
+
+    private static class MonitoredSession extends WebSocketSessionDecorator {
+        private final WebSocketSessionMonitor monitor;
+
+        private MonitoredSession(WebSocketSession session, WebSocketSessionMonitor monitor) {
+            super(session);
+            this.monitor = monitor;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            monitor.onSendStart(getId());
+            try {
+                super.sendMessage(message);
+            } finally {
+                monitor.onSendEnd(getId(), message.getPayloadLength());
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.turtlecoin.auctionservice.domain.websocket.session;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+
+// outbound 채널에 들어온 프레임 크기를 세션별 대기 바이트로 기록
+@Component
+@RequiredArgsConstructor
+public class OutboundQueueInterceptor implements ChannelInterceptor {
+    private final WebSocketSessionMonitor monitor;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null && message.getPayload() instanceof byte[] payload) {
+            monitor.onEnqueued(sessionId, payload.length);
+        }
+        return message;
+    }
+}
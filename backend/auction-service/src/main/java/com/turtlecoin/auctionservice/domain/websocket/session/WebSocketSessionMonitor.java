@@ -0,0 +1,160 @@
+package com.turtlecoin.auctionservice.domain.websocket.session;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// WebSocket 세션별 전송 현황 (대기 중인 바이트, 진행 중인 전송 시간)
+// 전송이 오래 막혀 있거나 대기 바이트가 너무 많은 세션(느린 클라이언트)은 끊어서
+// 같은 경매를 구독하는 다른 세션의 브로드캐스트가 밀리지 않게 한다
+@Slf4j
+@Component
+public class WebSocketSessionMonitor implements DisposableBean {
+    private final long slowSendThresholdMs;
+    private final long maxQueuedBytes;
+    private final long checkIntervalMs;
+
+    private final Map<String, SessionStats> sessions = new ConcurrentHashMap<>();
+    private final Timer sendTimer;
+    private final Counter evictedCounter;
+    private final ScheduledExecutorService checker = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "ws-session-monitor"));
+
+    public WebSocketSessionMonitor(MeterRegistry meterRegistry,
+                                   @Value("${auction.ws.slow-consumer.send-threshold-ms:3000}") long slowSendThresholdMs,
+                                   @Value("${auction.ws.slow-consumer.max-queued-bytes:262144}") long maxQueuedBytes,
+                                   @Value("${auction.ws.slow-consumer.check-interval-ms:1000}") long checkIntervalMs) {
+        this.slowSendThresholdMs = slowSendThresholdMs;
+        this.maxQueuedBytes = maxQueuedBytes;
+        this.checkIntervalMs = checkIntervalMs;
+        this.sendTimer = Timer.builder("websocket.session.send")
+                .description("세션 하나에 프레임 하나를 쓰는 데 걸린 시간")
+                .register(meterRegistry);
+        this.evictedCounter = Counter.builder("websocket.session.slow_consumer.evicted")
+                .description("느린 클라이언트로 판단되어 끊은 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.queued.bytes.total", this, monitor -> monitor.queuedBytes(false))
+                .description("전송 대기 중인 전체 바이트")
+                .register(meterRegistry);
+        Gauge.builder("websocket.session.queued.bytes.max", this, monitor -> monitor.queuedBytes(true))
+                .description("세션 하나에 전송 대기 중인 최대 바이트")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions", sessions, Map::size)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        checker.scheduleWithFixedDelay(this::checkSafely, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void register(WebSocketSession session) {
+        sessions.put(session.getId(), new SessionStats(session));
+    }
+
+    public void unregister(String sessionId) {
+        sessions.remove(sessionId);
+    }
+
+    // outbound 채널에 프레임이 들어왔을 때
+    public void onEnqueued(String sessionId, int bytes) {
+        SessionStats stats = sessions.get(sessionId);
+        if (stats != null) {
+            stats.queuedBytes.addAndGet(bytes);
+        }
+    }
+
+    public void onSendStart(String sessionId) {
+        SessionStats stats = sessions.get(sessionId);
+        if (stats != null) {
+            stats.sendStartedAt.set(System.nanoTime());
+        }
+    }
+
+    public void onSendEnd(String sessionId, int bytes) {
+        SessionStats stats = sessions.get(sessionId);
+        if (stats == null) {
+            return;
+        }
+        long startedAt = stats.sendStartedAt.getAndSet(0);
+        if (startedAt > 0) {
+            sendTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        // 실제 전송 프레임에는 STOMP 헤더가 더해지므로 0 아래로는 내려가지 않게
+        stats.queuedBytes.updateAndGet(queued -> Math.max(0, queued - bytes));
+    }
+
+    private double queuedBytes(boolean max) {
+        long result = 0;
+        for (SessionStats stats : sessions.values()) {
+            long queued = stats.queuedBytes.get();
+            result = max ? Math.max(result, queued) : result + queued;
+        }
+        return result;
+    }
+
+    private void checkSafely() {
+        try {
+            check();
+        } catch (Exception e) {
+            log.error("WebSocket 세션 점검 실패", e);
+        }
+    }
+
+    private void check() {
+        long now = System.nanoTime();
+        for (SessionStats stats : sessions.values()) {
+            long startedAt = stats.sendStartedAt.get();
+            long sendingMs = startedAt > 0 ? TimeUnit.NANOSECONDS.toMillis(now - startedAt) : 0;
+            long queued = stats.queuedBytes.get();
+            if (sendingMs >= slowSendThresholdMs || queued >= maxQueuedBytes) {
+                evict(stats.session, sendingMs, queued);
+            }
+        }
+    }
+
+    private void evict(WebSocketSession session, long sendingMs, long queued) {
+        log.warn("느린 클라이언트 세션을 종료합니다: sessionId = {}, 전송 중 = {}ms, 대기 = {}bytes",
+                session.getId(), sendingMs, queued);
+        sessions.remove(session.getId());
+        evictedCounter.increment();
+        try {
+            session.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.warn("세션 종료 실패: sessionId = {}", session.getId(), e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        checker.shutdown();
+    }
+
+    private static class SessionStats {
+        private final WebSocketSession session;
+        private final AtomicLong queuedBytes = new AtomicLong();
+        // 진행 중인 전송 시작 시각 (nanoTime, 전송 중이 아니면 0)
+        private final AtomicLong sendStartedAt = new AtomicLong();
+
+        private SessionStats(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.turtlecoin.auctionservice.domain.websocket.ticker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.turtlecoin.auctionservice.domain.websocket.broker.LocalBroadcaster;
+import com.turtlecoin.auctionservice.domain.websocket.dto.AuctionTickerDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 진행 중인 경매들의 현재 가격/마감 시각을 주기적으로 모아서 전송하는 시세 ticker
+// 목록 화면은 경매마다 구독하지 않고 /user/queue/auction/ticker 하나만 구독하고,
+// 각 세션에는 등록한 경매만 골라서 보낸다. 값은 Redis에서만 읽는다 (DB 조회 없음)
+@Slf4j
+@Component
+public class AuctionTicker implements DisposableBean {
+    public static final String AUCTION_LIVE_KEY = "auction_live";
+    private static final String AUCTION_BID_KEY = "auction_bid_";
+    private static final String AUCTION_END_KEY_PREFIX = "auction_end_";
+    private static final String TICKER_DESTINATION = "/queue/auction/ticker";
+    private static final byte[] FRAME_PREFIX = "{\"status\":\"200\",\"data\":{\"Ticker\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FRAME_SUFFIX = "]}}".getBytes(StandardCharsets.UTF_8);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TickerWatchRegistry watchRegistry;
+    private final LocalBroadcaster localBroadcaster;
+    private final long intervalMs;
+
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "auction-ticker"));
+
+    public AuctionTicker(RedisTemplate<String, Object> redisTemplate,
+                         ObjectMapper objectMapper,
+                         TickerWatchRegistry watchRegistry,
+                         LocalBroadcaster localBroadcaster,
+                         @Value("${auction.ticker.interval-ms:1000}") long intervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.watchRegistry = watchRegistry;
+        this.localBroadcaster = localBroadcaster;
+        this.intervalMs = intervalMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        ticker.scheduleWithFixedDelay(this::tickSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 경매 시작/종료 시 호출
+    public void addLive(Long auctionId) {
+        redisTemplate.opsForSet().add(AUCTION_LIVE_KEY, auctionId.toString());
+    }
+
+    public void removeLive(Long auctionId) {
+        redisTemplate.opsForSet().remove(AUCTION_LIVE_KEY, auctionId.toString());
+    }
+
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.error("시세 전송 실패", e);
+        }
+    }
+
+    private void tick() {
+        // 이 인스턴스에 시세를 받는 세션이 없으면 Redis도 조회하지 않는다
+        if (watchRegistry.isEmpty()) {
+            return;
+        }
+
+        // 세션들이 등록한 경매 중 진행 중인 경매만 조회
+        Set<Long> watched = new HashSet<>();
+        watchRegistry.getWatches().values().forEach(watch -> watched.addAll(watch.auctionIds()));
+        Set<Object> live = redisTemplate.opsForSet().members(AUCTION_LIVE_KEY);
+        List<Long> auctionIds = new ArrayList<>();
+        if (live != null) {
+            for (Object member : live) {
+                Long auctionId = Long.valueOf(member.toString());
+                if (watched.contains(auctionId)) {
+                    auctionIds.add(auctionId);
+                }
+            }
+        }
+
+        // 경매별 JSON은 한 번만 직렬화하고 세션별 프레임은 이어 붙여서 만든다
+        Map<Long, byte[]> entries = loadEntries(auctionIds);
+        for (Map.Entry<String, TickerWatchRegistry.Watch> entry : watchRegistry.getWatches().entrySet()) {
+            TickerWatchRegistry.Watch watch = entry.getValue();
+            localBroadcaster.deliverToSession(watch.userName(), entry.getKey(), TICKER_DESTINATION,
+                    buildFrame(watch.auctionIds(), entries));
+        }
+    }
+
+    // 한 번의 파이프라인으로 경매별 입찰 정보와 마감 시각 조회
+    private Map<Long, byte[]> loadEntries(List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                for (Long auctionId : auctionIds) {
+                    ops.opsForHash().multiGet(AUCTION_BID_KEY + auctionId, List.of("bidAmount", "nextBid"));
+                    ops.opsForValue().get(AUCTION_END_KEY_PREFIX + auctionId);
+                }
+                return null;
+            }
+        });
+
+        long now = System.currentTimeMillis();
+        Map<Long, byte[]> entries = new HashMap<>();
+        for (int i = 0; i < auctionIds.size(); i++) {
+            List<?> bid = (List<?>) results.get(i * 2);
+            Object endAtValue = results.get(i * 2 + 1);
+            if (endAtValue == null) {
+                // 이미 마감된 경매
+                continue;
+            }
+            Long endAt = (long) Double.parseDouble(endAtValue.toString());
+            AuctionTickerDTO dto = AuctionTickerDTO.builder()
+                    .auctionId(auctionIds.get(i))
+                    .nowBid(toDouble(bid, 0))
+                    .nextBid(toDouble(bid, 1))
+                    .endAt(endAt)
+                    .remainingTime(Math.max(0, endAt - now))
+                    .build();
+            try {
+                entries.put(auctionIds.get(i), objectMapper.writeValueAsBytes(dto));
+            } catch (JsonProcessingException e) {
+                log.error("시세 직렬화 실패: auctionId = {}", auctionIds.get(i), e);
+            }
+        }
+        return entries;
+    }
+
+    private Double toDouble(List<?> values, int index) {
+        if (values == null || values.size() <= index || values.get(index) == null) {
+            return null;
+        }
+        return Double.parseDouble(values.get(index).toString());
+    }
+
+    private byte[] buildFrame(Set<Long> auctionIds, Map<Long, byte[]> entries) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(FRAME_PREFIX);
+        boolean first = true;
+        for (Long auctionId : auctionIds) {
+            byte[] json = entries.get(auctionId);
+            if (json == null) {
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            out.writeBytes(json);
+            first = false;
+        }
+        out.writeBytes(FRAME_SUFFIX);
+        return out.toByteArray();
+    }
+
+    @Override
+    public void destroy() {
+        ticker.shutdown();
+    }
+}
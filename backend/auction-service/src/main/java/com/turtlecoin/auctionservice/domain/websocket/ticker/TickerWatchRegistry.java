@@ -0,0 +1,49 @@
+package com.turtlecoin.auctionservice.domain.websocket.ticker;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+// 이 인스턴스에 연결된 세션별로 시세를 받을 경매 목록
+@Component
+public class TickerWatchRegistry {
+    private final int maxWatch;
+    // sessionId -> 구독 정보
+    private final Map<String, Watch> watches = new ConcurrentHashMap<>();
+
+    public TickerWatchRegistry(@Value("${auction.ticker.max-watch:50}") int maxWatch) {
+        this.maxWatch = maxWatch;
+    }
+
+    public void watch(String sessionId, String userName, Collection<Long> auctionIds) {
+        if (auctionIds == null || auctionIds.isEmpty()) {
+            watches.remove(sessionId);
+            return;
+        }
+        Set<Long> ids = auctionIds.stream().limit(maxWatch).collect(Collectors.toUnmodifiableSet());
+        watches.put(sessionId, new Watch(userName, ids));
+    }
+
+    public Map<String, Watch> getWatches() {
+        return watches;
+    }
+
+    public boolean isEmpty() {
+        return watches.isEmpty();
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        watches.remove(event.getSessionId());
+    }
+
+    public record Watch(String userName, Set<Long> auctionIds) {
+    }
+}
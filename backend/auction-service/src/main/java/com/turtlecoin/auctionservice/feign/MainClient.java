@@ -1,6 +1,5 @@
 package com.turtlecoin.auctionservice.feign;
 
-import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
 import com.turtlecoin.auctionservice.feign.dto.TurtleFilteredResponseDTO;
 import com.turtlecoin.auctionservice.feign.dto.TurtleResponseDTO;
 import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
@@ -8,19 +7,15 @@ import com.turtlecoin.auctionservice.global.config.FeignConfig;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
+import java.util.Map;
 
 @FeignClient(name = "main-service", configuration = FeignConfig.class)
 public interface MainClient {
 
-    @GetMapping("/main/turtle/filter")
-    List<TurtleFilteredResponseDTO> getFilteredTurtles(
-            @RequestParam(required = false)Gender gender,
-            @RequestParam(required = false)Double minSize,
-            @RequestParam(required = false)Double maxSize);
-
     @GetMapping("/main/turtle/{turtleId}")
     TurtleFilteredResponseDTO getTurtle(@PathVariable Long turtleId);
 
@@ -34,4 +29,10 @@ public interface MainClient {
     @GetMapping("/main/user/{userId}/nickname")
     String getUserNicknameById(@PathVariable("userId") Long userId);
 
+    @PostMapping("/main/user/list")
+    List<UserResponseDTO> getUsersByIds(@RequestBody List<Long> userIds);
+
+    @PostMapping("/main/user/nicknames")
+    Map<Long, String> getUserNicknamesByIds(@RequestBody List<Long> userIds);
+
 }
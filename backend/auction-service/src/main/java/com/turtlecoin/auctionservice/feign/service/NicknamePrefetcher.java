@@ -0,0 +1,70 @@
+package com.turtlecoin.auctionservice.feign.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 접속한 유저의 닉네임을 요청 스레드와 분리해서 모아 두었다가 한 번에 캐시에 채운다
+// (핸드셰이크마다 main-service를 호출하지 않도록)
+@Slf4j
+@Component
+public class NicknamePrefetcher implements DisposableBean {
+    private final UserService userService;
+    private final int batchSize;
+    private final Queue<Long> pending = new ConcurrentLinkedQueue<>();
+    // 같은 유저가 여러 번 대기열에 들어가지 않도록
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "nickname-prefetcher"));
+
+    public NicknamePrefetcher(UserService userService,
+                              @Value("${auction.nickname-cache.prefetch.interval-ms:200}") long intervalMs,
+                              @Value("${auction.nickname-cache.prefetch.batch-size:200}") int batchSize) {
+        this.userService = userService;
+        this.batchSize = batchSize;
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void request(Long userId) {
+        if (userId != null && queued.add(userId)) {
+            pending.add(userId);
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("닉네임 미리 조회 실패", e);
+        }
+    }
+
+    private void flush() {
+        while (!pending.isEmpty()) {
+            List<Long> batch = new ArrayList<>(batchSize);
+            Long userId;
+            while (batch.size() < batchSize && (userId = pending.poll()) != null) {
+                queued.remove(userId);
+                batch.add(userId);
+            }
+            // 이미 캐시에 있는 유저는 prefetchNicknames 안에서 바로 걸러진다
+            userService.prefetchNicknames(batch);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        flusher.shutdown();
+    }
+}
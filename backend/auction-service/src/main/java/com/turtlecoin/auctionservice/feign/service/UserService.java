@@ -1,33 +1,149 @@
 package com.turtlecoin.auctionservice.feign.service;
 
 import com.turtlecoin.auctionservice.feign.MainClient;
-import com.turtlecoin.auctionservice.feign.dto.UserResponseDTO;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class UserService {
+    private static final String USER_NICKNAME_KEY = "user_";
+    private static final String UNKNOWN_NICKNAME = "알 수 없는 사용자";
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final MainClient mainClient;
+    private final long ttlMillis;
+    private final long failureTtlMillis;
+    // main-service 호출이 실패하면 이 시각까지는 호출하지 않고 대체 값을 쓴다 (타임아웃이 입찰마다 반복되지 않도록)
+    private volatile long remoteRetryAt;
+
+    // 입찰 브로드캐스트마다 main-service를 호출하지 않도록 로컬에 닉네임을 보관 (LRU, 최대 개수 제한)
+    private final Map<Long, CachedNickname> localCache;
+
+    public UserService(RedisTemplate<String, Object> redisTemplate,
+                       MainClient mainClient,
+                       @Value("${auction.nickname-cache.max-size:10000}") int maxSize,
+                       @Value("${auction.nickname-cache.ttl-seconds:300}") long ttlSeconds,
+                       @Value("${auction.nickname-cache.failure-ttl-ms:5000}") long failureTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.mainClient = mainClient;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.failureTtlMillis = failureTtlMillis;
+        this.localCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedNickname> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
 
     public String getUserNicknameById(Long userId) {
-        String cacheKey = "user_" + userId;
-        String userNickname = (String) redisTemplate.opsForValue().get(cacheKey);
-        if (userNickname == null) {
-            // 정보가 없으면 main-service에서, 있으면 캐시에서.
-            // 어떻게 가져오느냐에 따라서 시간 설정을 다르게 해줄 필요가 있음
-            userNickname = mainClient.getUserNicknameById(userId);
-            redisTemplate.opsForValue().set(cacheKey, userNickname, 5, TimeUnit.MINUTES); // TTL 5분 설정
-//            log.info("Main-service에서 가져오기");
+        CachedNickname cached = localCache.get(userId);
+        if (cached != null && !cached.isExpired()) {
+            return cached.nickname;
+        }
+
+        String cacheKey = USER_NICKNAME_KEY + userId;
+        try {
+            String userNickname = (String) redisTemplate.opsForValue().get(cacheKey);
+            if (userNickname == null) {
+                if (!isRemoteAvailable()) {
+                    return fallback(userId, cached);
+                }
+                // 정보가 없으면 main-service에서, 있으면 캐시에서.
+                userNickname = mainClient.getUserNicknameById(userId);
+                redisTemplate.opsForValue().set(cacheKey, userNickname, 5, TimeUnit.MINUTES); // TTL 5분 설정
+            }
+            putLocal(userId, userNickname);
             return userNickname;
+        } catch (Exception e) {
+            // main-service 장애 시에도 입찰 처리는 계속되어야 하므로 만료된 값이라도 사용
+            log.warn("닉네임 조회 실패, 캐시된 값으로 대체합니다: userId = {}, error = {}", userId, e.getMessage());
+            remoteRetryAt = System.currentTimeMillis() + failureTtlMillis;
+            return fallback(userId, cached);
+        }
+    }
+
+    // 로컬 캐시만 확인 (입찰 처리 경로용, 외부 호출 없음), 없으면 null
+    public String findCachedNickname(Long userId) {
+        CachedNickname cached = localCache.get(userId);
+        return cached == null || cached.isExpired() ? null : cached.nickname;
+    }
+
+    private boolean isRemoteAvailable() {
+        return System.currentTimeMillis() >= remoteRetryAt;
+    }
+
+    // 대체 값도 짧게 캐시해서 장애 동안 같은 유저 조회가 매번 main-service를 기다리지 않게 한다
+    private String fallback(Long userId, CachedNickname stale) {
+        String nickname = stale != null ? stale.nickname : UNKNOWN_NICKNAME;
+        localCache.put(userId, new CachedNickname(nickname, System.currentTimeMillis() + failureTtlMillis));
+        return nickname;
+    }
+
+    // 이미 알고 있는 닉네임(웹소켓 핸드셰이크 등)으로 캐시를 미리 채워둔다
+    public void cacheNickname(Long userId, String nickname) {
+        if (userId == null || nickname == null) {
+            return;
+        }
+        putLocal(userId, nickname);
+        redisTemplate.opsForValue().set(USER_NICKNAME_KEY + userId, nickname, 5, TimeUnit.MINUTES);
+    }
+
+    // 여러 유저의 닉네임을 한 번에 가져와 캐시에 채운다
+    public Map<Long, String> prefetchNicknames(Collection<Long> userIds) {
+        Map<Long, String> result = new HashMap<>();
+        List<Long> redisMisses = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            CachedNickname cached = localCache.get(userId);
+            if (cached != null && !cached.isExpired()) {
+                result.put(userId, cached.nickname);
+            } else {
+                redisMisses.add(userId);
+            }
+        }
+        if (redisMisses.isEmpty()) {
+            return result;
+        }
+
+        try {
+            List<Object> redisValues = redisTemplate.opsForValue()
+                    .multiGet(redisMisses.stream().map(id -> USER_NICKNAME_KEY + id).toList());
+            List<Long> remoteMisses = new ArrayList<>();
+            for (int i = 0; i < redisMisses.size(); i++) {
+                Object value = redisValues == null ? null : redisValues.get(i);
+                if (value != null) {
+                    putLocal(redisMisses.get(i), value.toString());
+                    result.put(redisMisses.get(i), value.toString());
+                } else {
+                    remoteMisses.add(redisMisses.get(i));
+                }
+            }
+
+            if (!remoteMisses.isEmpty() && isRemoteAvailable()) {
+                Map<Long, String> fetched = mainClient.getUserNicknamesByIds(remoteMisses);
+                fetched.forEach(this::cacheNickname);
+                result.putAll(fetched);
+            }
+        } catch (Exception e) {
+            log.warn("닉네임 일괄 조회 실패: userIds = {}, error = {}", redisMisses, e.getMessage());
+            remoteRetryAt = System.currentTimeMillis() + failureTtlMillis;
+        }
+        return result;
+    }
+
+    private void putLocal(Long userId, String nickname) {
+        localCache.put(userId, new CachedNickname(nickname, System.currentTimeMillis() + ttlMillis));
+    }
+
+    private record CachedNickname(String nickname, long expiresAt) {
+        boolean isExpired() {
+            return System.currentTimeMillis() > expiresAt;
         }
-//        log.info("Redis에서 가져오기");
-        return userNickname;
     }
 }
@@ -46,6 +46,22 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(auctionResultQueue).to(auctionResultExchange).with("auction.result.key");
     }
 
+    // 거북이 변경 이벤트 (main-service -> auction-service, 거북이 속성 사본 갱신)
+    @Bean
+    DirectExchange turtleEventExchange() {
+        return new DirectExchange("turtle.event.exchange");
+    }
+
+    @Bean
+    Queue turtleEventQueue() {
+        return new Queue("turtle.event.queue", true);
+    }
+
+    @Bean
+    Binding turtleEventBinding(DirectExchange turtleEventExchange, Queue turtleEventQueue) {
+        return BindingBuilder.bind(turtleEventQueue).to(turtleEventExchange).with("turtle.event.key");
+    }
+
     // 4. 메시지 전송/수신을 위한 JSON 메시지 컨버터 설정
     @Bean
     public MessageConverter messageConverter() {
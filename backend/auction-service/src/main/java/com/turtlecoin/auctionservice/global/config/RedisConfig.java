@@ -1,17 +1,19 @@
 package com.turtlecoin.auctionservice.global.config;
 
-import com.turtlecoin.auctionservice.domain.auction.listener.AuctionExpirationListener;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scripting.support.ResourceScriptSource;
+
+import java.util.List;
 
 @Configuration
 public class RedisConfig {
@@ -51,18 +53,95 @@ public class RedisConfig {
         return template;
     }
 
+    // 입찰 검증/갱신을 한 번에 처리하는 Lua 스크립트
     @Bean
-    RedisMessageListenerContainer container(RedisConnectionFactory connectionFactory,
-                                            MessageListenerAdapter listenerAdapter) {
-        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
-        container.setConnectionFactory(lettuceConnectionFactory());
+    public DefaultRedisScript<List<Object>> bidCommitScript() {
+        return listScript("scripts/bid_commit.lua");
+    }
 
-        container.addMessageListener(listenerAdapter, new PatternTopic("__keyevent@0__:expired"));
-        return container;
+    // 경매 하나의 마감을 원자적으로 가져가는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<List<Object>> claimDeadlineScript() {
+        return listScript("scripts/claim_deadline.lua");
+    }
+
+    // 마감 시각이 지난 경매들을 원자적으로 가져가는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<List<Object>> claimDueDeadlinesScript() {
+        return listScript("scripts/claim_due_deadlines.lua");
+    }
+
+    // 마감 처리가 끝난 경매를 정리하거나 재시도하도록 되돌리는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<Long> finishDeadlineScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/finish_deadline.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // DB에 반영할 경매 입찰 정보를 원자적으로 가져가는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<List<Object>> claimDirtyAuctionsScript() {
+        return listScript("scripts/claim_dirty_auctions.lua");
+    }
+
+    // 시작 시각이 지난 경매 시작 작업을 원자적으로 처리 중 목록으로 옮기는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<List<Object>> claimDueStartJobsScript() {
+        return listScript("scripts/claim_due_start_jobs.lua");
     }
 
+    // 처리가 끝난 경매 시작 작업을 정리하거나 재시도하도록 되돌리는 Lua 스크립트
     @Bean
-    MessageListenerAdapter listenerAdapter (AuctionExpirationListener listener) {
-        return new MessageListenerAdapter(listener, "onMessage");
+    public DefaultRedisScript<Long> finishStartJobScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/finish_start_job.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // 작업 목록에서 빠진 시작 전 경매를 다시 채우는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<Long> reconcileStartJobsScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/reconcile_start_jobs.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // 진행 중인 경매에만 브로드캐스트 순번을 발급하는 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<Long> nextLiveSeqScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/next_live_seq.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // 리더 lease 획득/연장 Lua 스크립트
+    @Bean
+    public DefaultRedisScript<Long> acquireLeaseScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("scripts/acquire_lease.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // Redis pub/sub 구독용 컨테이너 (브로드캐스트 릴레이 등에서 리스너를 등록)
+    @Bean
+    RedisMessageListenerContainer container(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    // 여러 값을 돌려주는 Lua 스크립트 (List.class를 List<Object>로 바꾸는 변환은 여기서 한 번만 한다)
+    @SuppressWarnings("unchecked")
+    private static DefaultRedisScript<List<Object>> listScript(String path) {
+        DefaultRedisScript<List<Object>> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType((Class<List<Object>>) (Class<?>) List.class);
+        return script;
     }
-}
\ No newline at end of file
+}
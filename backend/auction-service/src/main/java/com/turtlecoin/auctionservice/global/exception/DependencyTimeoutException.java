@@ -0,0 +1,12 @@
+package com.turtlecoin.auctionservice.global.exception;
+
+// 외부 서비스(main-service, Redis 등) 응답이 제한 시간 안에 오지 않았을 때
+public class DependencyTimeoutException extends RuntimeException {
+    public DependencyTimeoutException(String message) {
+        super(message);
+    }
+
+    public DependencyTimeoutException(String message, Throwable cause){
+        super(message, cause);
+    }
+}
@@ -1,5 +1,6 @@
 package com.turtlecoin.auctionservice.global.utils;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -23,6 +24,11 @@ public class JWTUtil {
         this.redisTemplate = redisTemplate;
     }
 
+    // 서명 검증 후 클레임 전체를 한 번에 가져온다 (만료/위조 시 JwtException)
+    public Claims parseClaims(String token) {
+        return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+    }
+
     public String getUsernameFromToken(String token) {
         return Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload().get("username", String.class);
     }
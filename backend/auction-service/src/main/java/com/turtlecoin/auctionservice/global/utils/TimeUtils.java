@@ -0,0 +1,20 @@
+package com.turtlecoin.auctionservice.global.utils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Redis에 저장하는 epoch ms와 DB/엔티티의 LocalDateTime 변환 (서버 기본 시간대 기준)
+public final class TimeUtils {
+
+    private TimeUtils() {
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    public static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
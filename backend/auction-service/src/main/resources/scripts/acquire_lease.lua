@@ -0,0 +1,16 @@
+-- 리더 lease 획득 또는 연장
+-- KEYS[1] : lease 키
+-- ARGV[1] : 이 인스턴스 ID
+-- ARGV[2] : lease 시간(ms)
+-- 반환 : 1 (이 인스턴스가 리더), 0 (다른 인스턴스가 리더)
+
+local owner = redis.call('GET', KEYS[1])
+if owner == ARGV[1] then
+    redis.call('PEXPIRE', KEYS[1], ARGV[2])
+    return 1
+end
+if not owner then
+    redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[2])
+    return 1
+end
+return 0
@@ -0,0 +1,188 @@
+-- 입찰 검증 + 갱신 + 자동 입찰(proxy) 처리를 한 번의 왕복으로 원자적으로 처리하는 스크립트
+-- KEYS[1] : auction_bid_{auctionId}
+-- KEYS[2] : auction_end_{auctionId} (값 = 마감 시각 epoch ms, TTL = 남은 시간)
+-- KEYS[3] : auction_deadlines (경매 마감 시각 sorted set)
+-- KEYS[4] : auction_dirty (DB에 반영되지 않은 경매 sorted set, score = 처음 변경된 시각)
+-- KEYS[5] : auction_proxy_{auctionId} (userId -> 자동 입찰 최대 금액, 't:' .. userId -> 최대 금액을 정한 시각)
+-- ARGV[1] : 입찰자 userId
+-- ARGV[2] : 판매자 userId
+-- ARGV[3] : 입찰 금액 (BID)
+-- ARGV[4] : 다음 입찰 금액 (BID)
+-- ARGV[5] : 마감 연장 시간(ms)
+-- ARGV[6] : 경매 ID
+-- ARGV[7] : 현재 시각(epoch ms)
+-- ARGV[8] : 모드 (BID: 일반 입찰, PROXY: 자동 입찰 등록)
+-- ARGV[9] : 자동 입찰 최대 금액 (PROXY)
+-- ARGV[10] : 경매 최소 입찰가 (PROXY, 입찰이 없을 때 첫 입찰 금액)
+-- 반환 : {'OK', 연장 시간, 마감 시각, 다음 입찰가, 입찰자, 입찰가, 입찰자, 입찰가, ...}
+--        첫 (입찰자, 입찰가)는 요청한 입찰이고, 이후는 자동 입찰로 정산된 결과, 마지막이 최종 최고 입찰
+
+-- BidService.calculateBidIncrement와 같은 호가 단위
+local function increment(bid)
+    if bid <= 10000 then
+        return 5000
+    elseif bid <= 50000 then
+        return 10000
+    elseif bid <= 100000 then
+        return 30000
+    elseif bid <= 500000 then
+        return 50000
+    elseif bid <= 1000000 then
+        return 70000
+    elseif bid <= 5000000 then
+        return 100000
+    elseif bid <= 10000000 then
+        return 150000
+    end
+    return 200000
+end
+
+-- 자신의 경매에는 입찰할 수 없음
+if ARGV[1] == ARGV[2] then
+    return {'SELLER'}
+end
+
+local current = redis.call('HMGET', KEYS[1], 'userId', 'bidAmount', 'nextBid')
+local currentBid = tonumber(current[2]) or 0
+local bidAmount
+local nextBid
+
+if ARGV[8] == 'PROXY' then
+    -- 마감 키가 없거나 만료됐으면 등록 불가
+    if redis.call('PTTL', KEYS[2]) < 0 then
+        return {'TIME_INVALID'}
+    end
+
+    -- 최대 금액은 올리는 것만 가능
+    local maxBid = tonumber(ARGV[9])
+    local registered = tonumber(redis.call('HGET', KEYS[5], ARGV[1])) or 0
+    if maxBid <= registered then
+        return {'WRONG_AMOUNT', tostring(registered)}
+    end
+
+    -- 이미 최고 입찰자면 최대 금액만 갱신
+    if current[1] and current[1] == ARGV[1] then
+        redis.call('HSET', KEYS[5], ARGV[1], ARGV[9], 't:' .. ARGV[1], ARGV[7])
+        return {'PROXY_SET'}
+    end
+
+    -- 현재 다음 입찰가(입찰이 없으면 최소 입찰가)로 바로 입찰
+    if current[2] then
+        bidAmount = tonumber(current[3]) or (currentBid + increment(currentBid))
+    else
+        bidAmount = tonumber(ARGV[10])
+    end
+    if maxBid < bidAmount then
+        return {'WRONG_AMOUNT', tostring(currentBid)}
+    end
+    redis.call('HSET', KEYS[5], ARGV[1], ARGV[9], 't:' .. ARGV[1], ARGV[7])
+    nextBid = bidAmount + increment(bidAmount)
+else
+    -- 자신의 입찰에 재입찰할 수 없음
+    if current[1] and current[1] == ARGV[1] then
+        return {'SAME_USER'}
+    end
+
+    -- 현재 입찰가보다 높은 금액만 허용
+    if tonumber(ARGV[3]) <= currentBid then
+        return {'WRONG_AMOUNT', tostring(currentBid)}
+    end
+
+    -- 마감 키가 없거나 만료됐으면 입찰 불가
+    if redis.call('PTTL', KEYS[2]) < 0 then
+        return {'TIME_INVALID'}
+    end
+    bidAmount = tonumber(ARGV[3])
+    nextBid = tonumber(ARGV[4])
+end
+
+local bids = {ARGV[1], tostring(bidAmount)}
+
+-- 자동 입찰 처리: 번갈아 올리지 않고 한 번에 정산한다
+-- 참가자(현재 최고 입찰자 + 판매자가 아닌 자동 입찰) 중 최대 금액이 가장 큰 사람이 이기고,
+-- 두 번째로 큰 최대 금액 + 호가 단위(이긴 쪽 최대 금액을 넘지 않음)에 입찰한다
+-- 최대 금액이 같으면 먼저 정한 쪽이 이긴다 (같은 시각이면 userId 순)
+local maxOf = {}
+local timeOf = {}
+local proxies = redis.call('HGETALL', KEYS[5])
+for i = 1, #proxies, 2 do
+    if string.sub(proxies[i], 1, 2) == 't:' then
+        timeOf[string.sub(proxies[i], 3)] = tonumber(proxies[i + 1])
+    else
+        maxOf[proxies[i]] = tonumber(proxies[i + 1])
+    end
+end
+maxOf[ARGV[2]] = nil
+
+local function earlier(a, b)
+    local ta = timeOf[a] or 0
+    local tb = timeOf[b] or 0
+    if ta ~= tb then
+        return ta < tb
+    end
+    return a < b
+end
+
+-- 현재 최고 입찰자는 자동 입찰이 없어도 방금 입찰한 금액까지는 낸 것으로 본다
+local leader = ARGV[1]
+local price = bidAmount
+if not maxOf[leader] or maxOf[leader] < price then
+    maxOf[leader] = price
+end
+
+local function ahead(user, max, other, otherMax)
+    return not other or max > otherMax or (max == otherMax and earlier(user, other))
+end
+
+local top, topMax, second, secondMax
+for user, max in pairs(maxOf) do
+    if ahead(user, max, top, topMax) then
+        second, secondMax = top, topMax
+        top, topMax = user, max
+    elseif ahead(user, max, second, secondMax) then
+        second, secondMax = user, max
+    end
+end
+
+local need = price + increment(price)
+-- 이긴 쪽이 현재 최고 입찰자면 누군가 다음 입찰가를 감당할 수 있을 때만, 아니면 이긴 쪽이 감당할 수 있을 때만 가격이 바뀐다
+local contested
+if top == leader then
+    contested = second and secondMax >= need
+else
+    contested = topMax >= need
+end
+if contested then
+    local final = math.min(secondMax + increment(secondMax), topMax)
+    -- 진 쪽이 최대 금액까지 입찰한 기록 (그 금액이 유효한 입찰이고 최종가보다 낮을 때만)
+    if secondMax < final and ((second == leader and secondMax > price) or (second ~= leader and secondMax >= need)) then
+        table.insert(bids, second)
+        table.insert(bids, tostring(secondMax))
+    end
+    leader = top
+    price = final
+    nextBid = price + increment(price)
+    table.insert(bids, leader)
+    table.insert(bids, tostring(price))
+end
+
+-- 마감 시간 연장 후 최종 입찰 정보 갱신
+local deadline = tonumber(ARGV[7]) + tonumber(ARGV[5])
+redis.call('SET', KEYS[2], tostring(deadline), 'PX', ARGV[5])
+redis.call('ZADD', KEYS[3], deadline, ARGV[6])
+redis.call('HSET', KEYS[1],
+        'userId', leader,
+        'bidAmount', tostring(price),
+        'nextBid', tostring(nextBid),
+        'remainingTime', ARGV[5],
+        'endAt', tostring(deadline))
+-- 입찰 상태가 바뀔 때마다 증가하는 버전 (DB 반영 시 이전 상태로 덮어쓰지 않도록 비교)
+redis.call('HINCRBY', KEYS[1], 'seq', 1)
+-- DB 반영 대기 목록에 추가 (이미 있으면 처음 변경된 시각 유지)
+redis.call('ZADD', KEYS[4], 'NX', ARGV[7], ARGV[6])
+
+local result = {'OK', ARGV[5], tostring(deadline), tostring(nextBid)}
+for i = 1, #bids do
+    table.insert(result, bids[i])
+end
+return result
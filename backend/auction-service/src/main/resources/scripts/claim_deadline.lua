@@ -0,0 +1,25 @@
+-- 특정 경매의 마감을 한 인스턴스만 가져가도록 원자적으로 꺼내 마감 처리 중 목록으로 옮긴다
+-- 처리 중 목록에서는 마감 처리가 커밋된 뒤에야 지우므로(finish_deadline.lua),
+-- 처리 도중 인스턴스가 죽어도 claim 기한이 지나면 스윕에서 다시 마감한다
+-- KEYS[1] : auction_deadlines (score = 마감 시각)
+-- KEYS[2] : auction_closing (score = claim 기한)
+-- KEYS[3] : auction_end_{auctionId}
+-- ARGV[1] : 경매 ID
+-- ARGV[2] : 현재 시각(epoch ms)
+-- ARGV[3] : claim 유지 시간(ms)
+
+local score = redis.call('ZSCORE', KEYS[1], ARGV[1])
+if not score then
+    return {'ABSENT'}
+end
+
+-- 입찰로 마감이 연장됐으면 아직 닫지 않는다
+if tonumber(score) > tonumber(ARGV[2]) then
+    return {'PENDING', score}
+end
+
+-- 마감 키도 같이 지워서 이후 입찰이 들어오지 않도록 한다
+redis.call('ZREM', KEYS[1], ARGV[1])
+redis.call('ZADD', KEYS[2], tonumber(ARGV[2]) + tonumber(ARGV[3]), ARGV[1])
+redis.call('DEL', KEYS[3])
+return {'CLAIMED', score}
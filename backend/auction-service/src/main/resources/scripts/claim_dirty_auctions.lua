@@ -0,0 +1,23 @@
+-- DB에 반영되지 않은 경매들의 현재 입찰 정보를 최대 ARGV[1]개까지 원자적으로 꺼낸다
+-- KEYS[1] : auction_dirty
+-- ARGV[1] : 최대 개수
+-- ARGV[2] : 입찰 키 prefix (auction_bid_)
+-- 반환 : {경매 ID, 입찰자 ID, 입찰가, 마감 시각(없으면 빈 문자열), 처음 변경된 시각, 입찰 버전(seq), ...}
+-- 꺼낸 뒤 들어온 입찰은 다시 auction_dirty에 추가되므로 갱신이 유실되지 않는다
+
+local dirty = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+local result = {}
+for i = 1, #dirty, 2 do
+    redis.call('ZREM', KEYS[1], dirty[i])
+    local bid = redis.call('HMGET', ARGV[2] .. dirty[i], 'userId', 'bidAmount', 'endAt', 'seq')
+    -- 경매가 이미 종료되어 입찰 키가 없으면 건너뜀
+    if bid[1] and bid[2] then
+        table.insert(result, dirty[i])
+        table.insert(result, bid[1])
+        table.insert(result, bid[2])
+        table.insert(result, bid[3] or '')
+        table.insert(result, dirty[i + 1])
+        table.insert(result, bid[4] or '0')
+    end
+end
+return result
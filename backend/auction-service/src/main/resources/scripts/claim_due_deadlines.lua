@@ -0,0 +1,31 @@
+-- 마감 시각이 지난 경매들을 원자적으로 꺼내 마감 처리 중 목록으로 옮긴다
+-- 후보는 호출하는 쪽에서 미리 조회해서 마감 키를 KEYS로 넘기고, 여기서 마감 시각을 다시 확인한다
+-- (그 사이 입찰로 연장됐거나 다른 인스턴스가 가져간 경매는 건너뜀)
+-- KEYS[1] : auction_deadlines (score = 마감 시각)
+-- KEYS[2] : auction_closing (score = claim 기한)
+-- KEYS[3..] : 후보 경매의 auction_end_{auctionId} (ARGV[3..]과 같은 순서)
+-- ARGV[1] : 현재 시각(epoch ms)
+-- ARGV[2] : claim 유지 시간(ms)
+-- ARGV[3..] : 후보 경매 ID
+-- 반환 : {경매 ID, 마감 시각, 경매 ID, 마감 시각, ...}
+
+-- 기한이 지난 claim(처리 도중 죽은 인스턴스의 마감)은 다음 스윕에서 다시 꺼내도록 되돌린다
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+for _, auctionId in ipairs(expired) do
+    redis.call('ZREM', KEYS[2], auctionId)
+    redis.call('ZADD', KEYS[1], ARGV[1], auctionId)
+end
+
+local deadline = tonumber(ARGV[1]) + tonumber(ARGV[2])
+local result = {}
+for i = 3, #ARGV do
+    local score = redis.call('ZSCORE', KEYS[1], ARGV[i])
+    if score and tonumber(score) <= tonumber(ARGV[1]) then
+        redis.call('ZREM', KEYS[1], ARGV[i])
+        redis.call('ZADD', KEYS[2], deadline, ARGV[i])
+        redis.call('DEL', KEYS[i])
+        table.insert(result, ARGV[i])
+        table.insert(result, score)
+    end
+end
+return result
@@ -0,0 +1,32 @@
+-- 시작 시각이 지난 경매 시작 작업을 최대 ARGV[2]개까지 원자적으로 꺼내 처리 중 목록으로 옮긴다
+-- 처리 중 목록에서는 경매 시작이 커밋된 뒤에야 지우므로(finish_start_job.lua),
+-- 꺼낸 인스턴스가 처리 도중 죽어도 claim 기한이 지나면 다음 호출에서 작업 목록으로 되돌아간다
+-- KEYS[1] : auction_start_jobs (score = 시작 시각)
+-- KEYS[2] : auction_start_processing (score = claim 기한)
+-- KEYS[3] : auction_start_scheduled_at (경매 ID -> 처음 예정된 시작 시각)
+-- KEYS[4] : auction_start_attempts (경매 ID -> 꺼낸 횟수)
+-- ARGV[1] : 현재 시각(epoch ms)
+-- ARGV[2] : 최대 개수
+-- ARGV[3] : claim 유지 시간(ms)
+-- 반환 : {경매 ID, 처음 예정된 시작 시각, 시도 횟수, ...}
+
+-- 기한이 지난 claim은 바로 다시 꺼낼 수 있도록 작업 목록으로 되돌린다
+local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1])
+for _, auctionId in ipairs(expired) do
+    redis.call('ZREM', KEYS[2], auctionId)
+    redis.call('ZADD', KEYS[1], ARGV[1], auctionId)
+end
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'WITHSCORES', 'LIMIT', 0, ARGV[2])
+local deadline = tonumber(ARGV[1]) + tonumber(ARGV[3])
+local result = {}
+for i = 1, #due, 2 do
+    redis.call('ZREM', KEYS[1], due[i])
+    redis.call('ZADD', KEYS[2], deadline, due[i])
+    -- 재시도로 다시 넣어진 작업도 지연 시간은 처음 예정된 시각부터 잰다
+    redis.call('HSETNX', KEYS[3], due[i], due[i + 1])
+    table.insert(result, due[i])
+    table.insert(result, redis.call('HGET', KEYS[3], due[i]))
+    table.insert(result, redis.call('HINCRBY', KEYS[4], due[i], 1))
+end
+return result
@@ -0,0 +1,15 @@
+-- 꺼낸 경매 마감을 처리 중 목록에서 지우고, 마감 처리에 실패했으면 다시 시도할 시각으로 되돌린다
+-- KEYS[1] : auction_deadlines
+-- KEYS[2] : auction_closing
+-- ARGV[1] : 경매 ID
+-- ARGV[2] : 다시 시도할 시각(epoch ms), 빈 문자열이면 마감 완료
+-- 반환 : 처리 중 목록에서 지웠으면 1, claim 기한이 지나 이미 되돌아간 뒤면 0
+
+local removed = redis.call('ZREM', KEYS[2], ARGV[1])
+if ARGV[2] == '' then
+    -- 기한이 지나 되돌아간 마감이 있으면 함께 지운다
+    redis.call('ZREM', KEYS[1], ARGV[1])
+elseif removed == 1 then
+    redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+end
+return removed
@@ -0,0 +1,19 @@
+-- 꺼낸 경매 시작 작업을 처리 중 목록에서 지우고, 재시도할 작업이면 작업 목록에 다시 넣는다
+-- KEYS[1] : auction_start_jobs
+-- KEYS[2] : auction_start_processing
+-- KEYS[3] : auction_start_scheduled_at
+-- KEYS[4] : auction_start_attempts
+-- ARGV[1] : 경매 ID
+-- ARGV[2] : 다시 시도할 시각(epoch ms), 빈 문자열이면 작업 종료 (시작 완료, 시작 대상 아님, 재시도 횟수 초과)
+-- 반환 : 처리 중 목록에서 지웠으면 1, claim 기한이 지나 이미 작업 목록으로 되돌아간 뒤면 0
+
+local removed = redis.call('ZREM', KEYS[2], ARGV[1])
+if ARGV[2] == '' then
+    -- 기한이 지나 되돌아간 작업이 있으면 함께 지운다
+    redis.call('ZREM', KEYS[1], ARGV[1])
+    redis.call('HDEL', KEYS[3], ARGV[1])
+    redis.call('HDEL', KEYS[4], ARGV[1])
+elseif removed == 1 then
+    redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+end
+return removed
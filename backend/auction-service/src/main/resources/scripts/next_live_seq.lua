@@ -0,0 +1,10 @@
+-- 경매가 아직 진행 중(마감 키가 남아 있음)일 때만 브로드캐스트 순번을 발급한다
+-- 마감은 마감 키를 지운 뒤에 종료 프레임 순번을 받으므로, 여기서 발급된 순번은 항상 종료 프레임보다 작다
+-- KEYS[1] : auction_end_{auctionId}
+-- KEYS[2] : auction_seq_{auctionId}
+-- 반환 : 발급한 순번, 이미 마감된 경매면 nil
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return false
+end
+return redis.call('INCR', KEYS[2])
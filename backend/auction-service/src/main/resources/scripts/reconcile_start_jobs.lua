@@ -0,0 +1,15 @@
+-- DB에서 시작 전인 경매 중 작업 목록과 처리 중 목록 어디에도 없는 경매만 작업 목록에 다시 넣는다
+-- (등록 직후 Redis 반영 실패, Redis 데이터 유실, 재시도 횟수 초과로 끝난 작업 복구)
+-- KEYS[1] : auction_start_jobs
+-- KEYS[2] : auction_start_processing
+-- ARGV : {경매 ID, 시작 시각(epoch ms), ...}
+-- 반환 : 새로 넣은 작업 수
+
+local added = 0
+for i = 1, #ARGV, 2 do
+    if not redis.call('ZSCORE', KEYS[2], ARGV[i]) and not redis.call('ZSCORE', KEYS[1], ARGV[i]) then
+        redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+        added = added + 1
+    end
+end
+return added
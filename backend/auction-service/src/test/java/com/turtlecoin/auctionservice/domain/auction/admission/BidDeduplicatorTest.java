@@ -0,0 +1,76 @@
+package com.turtlecoin.auctionservice.domain.auction.admission;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BidDeduplicatorTest {
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BidDeduplicator deduplicator = new BidDeduplicator(meterRegistry, 10000, 100);
+
+    @AfterEach
+    void tearDown() {
+        deduplicator.destroy();
+    }
+
+    @Test
+    public void 처음_들어온_입찰은_처리하고_재전송은_처리중으로_돌려준다() {
+        assertNull(deduplicator.begin(1L, "bid-1"));
+
+        assertTrue(deduplicator.begin(1L, "bid-1").isPending());
+        assertEquals(1, meterRegistry.counter("auction.bid.duplicate").count());
+    }
+
+    @Test
+    public void 처리가_끝난_뒤의_재전송은_처음_결과를_돌려준다() {
+        deduplicator.begin(1L, "bid-1");
+        deduplicator.complete(1L, "bid-1", new BidDeduplicator.Outcome("409", "이미 더 높은 입찰이 있습니다."));
+
+        BidDeduplicator.Outcome outcome = deduplicator.begin(1L, "bid-1");
+
+        assertEquals("409", outcome.code());
+        assertEquals("이미 더 높은 입찰이 있습니다.", outcome.message());
+    }
+
+    @Test
+    public void 사용자가_다르거나_bidId가_없으면_걸러내지_않는다() {
+        deduplicator.begin(1L, "bid-1");
+
+        assertNull(deduplicator.begin(2L, "bid-1"));
+        assertNull(deduplicator.begin(1L, null));
+        assertNull(deduplicator.begin(1L, " "));
+    }
+
+    @Test
+    public void forget하면_같은_bidId로_다시_처리할_수_있다() {
+        deduplicator.begin(1L, "bid-1");
+        deduplicator.forget(1L, "bid-1");
+
+        assertNull(deduplicator.begin(1L, "bid-1"));
+    }
+
+    @Test
+    public void 기간이_지나면_같은_bidId를_새_입찰로_본다() throws InterruptedException {
+        deduplicator.destroy();
+        deduplicator = new BidDeduplicator(meterRegistry, 50, 100);
+        deduplicator.begin(1L, "bid-1");
+        deduplicator.complete(1L, "bid-1", BidDeduplicator.Outcome.SUCCESS);
+
+        Thread.sleep(100);
+
+        assertNull(deduplicator.begin(1L, "bid-1"));
+    }
+
+    @Test
+    public void 최대_개수를_넘으면_기록하지_않는다() {
+        deduplicator.destroy();
+        deduplicator = new BidDeduplicator(meterRegistry, 10000, 1);
+        deduplicator.begin(1L, "bid-1");
+
+        assertNull(deduplicator.begin(1L, "bid-2"));
+        assertNull(deduplicator.begin(1L, "bid-2"));
+        assertTrue(deduplicator.begin(1L, "bid-1").isPending());
+    }
+}
@@ -0,0 +1,108 @@
+package com.turtlecoin.auctionservice.domain.auction.scheduler;
+
+import com.turtlecoin.auctionservice.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuctionBidWriteBehindTest {
+    private static final long AUCTION_ID = 1L;
+    private static final long SELLER_ID = 10L;
+    private static final double MIN_BID = 8000;
+
+    private static EmbeddedRedis redis;
+    private static JdbcTemplate jdbcTemplate;
+    private static final DefaultRedisScript<List<Object>> bidCommitScript = EmbeddedRedis.listScript("bid_commit.lua");
+
+    private AuctionBidWriteBehind writeBehind;
+
+    @BeforeAll
+    static void setUpAll() {
+        redis = new EmbeddedRedis();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:write_behind;DB_CLOSE_DELAY=-1"));
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS auction");
+        jdbcTemplate.execute("CREATE TABLE auction (id BIGINT PRIMARY KEY, now_bid DOUBLE, buyer_id BIGINT, " +
+                "end_time TIMESTAMP, bid_seq BIGINT)");
+        // 경매 등록 시 nowBid는 최소 입찰가로 저장된다
+        jdbcTemplate.update("INSERT INTO auction (id, now_bid) VALUES (?, ?)", AUCTION_ID, MIN_BID);
+        redis.template().opsForValue().set("auction_end_" + AUCTION_ID, "0", 60, TimeUnit.SECONDS);
+        writeBehind = new AuctionBidWriteBehind(redis.template(),
+                EmbeddedRedis.listScript("claim_dirty_auctions.lua"),
+                jdbcTemplate, new SimpleMeterRegistry(), 1000, 5000, 200);
+    }
+
+    @Test
+    public void 최소_입찰가와_같은_첫_입찰도_반영된다() {
+        bid(20L, MIN_BID);
+
+        writeBehind.flush();
+
+        Map<String, Object> row = findAuction();
+        assertEquals(MIN_BID, ((Number) row.get("NOW_BID")).doubleValue());
+        assertEquals(20L, ((Number) row.get("BUYER_ID")).longValue());
+        assertNotNull(row.get("END_TIME"));
+        assertEquals(1L, ((Number) row.get("BID_SEQ")).longValue());
+    }
+
+    @Test
+    public void 이후_입찰은_최신_상태로_반영된다() {
+        bid(20L, MIN_BID);
+        writeBehind.flush();
+        bid(30L, MIN_BID + 5000);
+
+        writeBehind.flush();
+
+        Map<String, Object> row = findAuction();
+        assertEquals(MIN_BID + 5000, ((Number) row.get("NOW_BID")).doubleValue());
+        assertEquals(30L, ((Number) row.get("BUYER_ID")).longValue());
+        assertEquals(2L, ((Number) row.get("BID_SEQ")).longValue());
+    }
+
+    @Test
+    public void 이전_버전으로는_덮어쓰지_않는다() {
+        bid(20L, MIN_BID);
+        bid(30L, MIN_BID + 5000);
+        writeBehind.flush();
+
+        // 늦게 도착한 이전 상태(seq = 1)
+        int updated = jdbcTemplate.update(AuctionBidWriteBehind.UPDATE_SQL, MIN_BID, 20L, null, 1L, AUCTION_ID, 1L);
+
+        assertEquals(0, updated);
+        assertEquals(30L, ((Number) findAuction().get("BUYER_ID")).longValue());
+    }
+
+    private void bid(long userId, double amount) {
+        List<Object> result = redis.template().execute(bidCommitScript,
+                List.of("auction_bid_" + AUCTION_ID, "auction_end_" + AUCTION_ID, "auction_deadlines",
+                        "auction_dirty", "auction_proxy_" + AUCTION_ID),
+                String.valueOf(userId), String.valueOf(SELLER_ID), String.valueOf(amount),
+                String.valueOf(amount + 5000), "30000", String.valueOf(AUCTION_ID),
+                String.valueOf(System.currentTimeMillis()), "BID", "", String.valueOf(MIN_BID), "10");
+        assertEquals("OK", result.get(0));
+    }
+
+    private Map<String, Object> findAuction() {
+        return jdbcTemplate.queryForMap("SELECT * FROM auction WHERE id = ?", AUCTION_ID);
+    }
+}
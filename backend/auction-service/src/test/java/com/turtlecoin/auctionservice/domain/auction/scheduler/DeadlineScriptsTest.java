@@ -0,0 +1,142 @@
+package com.turtlecoin.auctionservice.domain.auction.scheduler;
+
+import com.turtlecoin.auctionservice.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 경매 마감 스크립트 (claim_deadline / claim_due_deadlines / finish_deadline)를 내장 Redis에서 실행
+class DeadlineScriptsTest {
+    private static final String DEADLINES = "auction_deadlines";
+    private static final String CLOSING = "auction_closing";
+    private static final long CLAIM_MS = 1000;
+
+    private static EmbeddedRedis redis;
+    private static final DefaultRedisScript<List<Object>> claimScript = EmbeddedRedis.listScript("claim_deadline.lua");
+    private static final DefaultRedisScript<List<Object>> claimDueScript = EmbeddedRedis.listScript("claim_due_deadlines.lua");
+    private static final DefaultRedisScript<Long> finishScript = EmbeddedRedis.script("finish_deadline.lua", Long.class);
+
+    private RedisTemplate<String, Object> template;
+
+    @BeforeAll
+    static void setUpAll() {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        template = redis.template();
+    }
+
+    @Test
+    public void 마감을_꺼내면_마감_키를_지우고_처리_중_목록에_남긴다() {
+        addAuction("1", 1000);
+
+        assertEquals(List.of("CLAIMED", "1000"), claim("1", 2000));
+
+        assertFalse(template.hasKey("auction_end_1"));
+        assertNull(template.opsForZSet().score(DEADLINES, "1"));
+        assertEquals(2000 + CLAIM_MS, template.opsForZSet().score(CLOSING, "1"));
+        assertEquals(List.of("ABSENT"), claim("1", 2000));
+    }
+
+    @Test
+    public void 연장된_마감은_꺼내지_않는다() {
+        addAuction("1", 5000);
+
+        assertEquals(List.of("PENDING", "5000"), claim("1", 2000));
+        assertEquals(List.of(), claimDue(2000, "1"));
+        assertTrue(template.hasKey("auction_end_1"));
+    }
+
+    @Test
+    public void 스윕은_후보_중_마감이_지난_경매만_꺼낸다() {
+        addAuction("1", 1000);
+        addAuction("2", 9000);
+
+        assertEquals(List.of("1", "1000"), claimDue(2000, "1", "2"));
+
+        assertFalse(template.hasKey("auction_end_1"));
+        assertTrue(template.hasKey("auction_end_2"));
+        assertEquals(2000 + CLAIM_MS, template.opsForZSet().score(CLOSING, "1"));
+    }
+
+    @Test
+    public void 마감_처리에_실패하면_재시도_시각에_다시_꺼내진다() {
+        addAuction("1", 1000);
+        claim("1", 2000);
+
+        assertEquals(1L, finish("1", "7000"));
+
+        assertEquals(0, template.opsForZSet().zCard(CLOSING));
+        assertEquals(List.of(), claimDue(6999, "1"));
+        assertEquals(List.of("1", "7000"), claimDue(7000, "1"));
+    }
+
+    @Test
+    public void 처리_도중_죽으면_claim_기한이_지난_뒤_다시_꺼내진다() {
+        addAuction("1", 1000);
+        claim("1", 2000);
+
+        // 기한이 지난 claim은 되돌리기만 하고, 다음 스윕의 후보로 다시 꺼내진다
+        assertEquals(List.of(), claimDue(2000 + CLAIM_MS));
+        assertEquals(2000 + CLAIM_MS, template.opsForZSet().score(DEADLINES, "1"));
+        assertEquals(List.of("1", String.valueOf(2000 + CLAIM_MS)), claimDue(2000 + CLAIM_MS, "1"));
+    }
+
+    @Test
+    public void 마감이_끝나면_모든_목록에서_지운다() {
+        addAuction("1", 1000);
+        claim("1", 2000);
+
+        assertEquals(1L, finish("1", ""));
+
+        assertEquals(0, template.opsForZSet().zCard(CLOSING));
+        assertEquals(0, template.opsForZSet().zCard(DEADLINES));
+    }
+
+    private void addAuction(String auctionId, long deadline) {
+        template.opsForZSet().add(DEADLINES, auctionId, deadline);
+        template.opsForValue().set("auction_end_" + auctionId, String.valueOf(deadline));
+    }
+
+    private List<String> claim(String auctionId, long now) {
+        return strings(template.execute(claimScript, List.of(DEADLINES, CLOSING, "auction_end_" + auctionId),
+                auctionId, String.valueOf(now), String.valueOf(CLAIM_MS)));
+    }
+
+    private List<String> claimDue(long now, String... candidates) {
+        List<String> keys = new ArrayList<>(List.of(DEADLINES, CLOSING));
+        List<Object> args = new ArrayList<>(List.of(String.valueOf(now), String.valueOf(CLAIM_MS)));
+        for (String candidate : candidates) {
+            keys.add("auction_end_" + candidate);
+            args.add(candidate);
+        }
+        return strings(template.execute(claimDueScript, keys, args.toArray()));
+    }
+
+    private Long finish(String auctionId, String retryAt) {
+        return template.execute(finishScript, List.of(DEADLINES, CLOSING), auctionId, retryAt);
+    }
+
+    private List<String> strings(List<Object> result) {
+        return result.stream()
+                .map(Object::toString)
+                .map(value -> value.endsWith(".0") ? value.substring(0, value.length() - 2) : value)
+                .toList();
+    }
+}
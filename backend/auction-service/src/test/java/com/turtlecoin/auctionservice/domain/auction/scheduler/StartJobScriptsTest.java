@@ -0,0 +1,134 @@
+package com.turtlecoin.auctionservice.domain.auction.scheduler;
+
+import com.turtlecoin.auctionservice.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 경매 시작 작업 스크립트 (claim / finish / reconcile)를 내장 Redis에서 실행
+class StartJobScriptsTest {
+    private static final String JOBS = "auction_start_jobs";
+    private static final String PROCESSING = "auction_start_processing";
+    private static final String SCHEDULED_AT = "auction_start_scheduled_at";
+    private static final String ATTEMPTS = "auction_start_attempts";
+    private static final List<String> JOB_KEYS = List.of(JOBS, PROCESSING, SCHEDULED_AT, ATTEMPTS);
+    private static final long CLAIM_MS = 1000;
+
+    private static EmbeddedRedis redis;
+    private static final DefaultRedisScript<List<Object>> claimScript = EmbeddedRedis.listScript("claim_due_start_jobs.lua");
+    private static final DefaultRedisScript<Long> finishScript = EmbeddedRedis.script("finish_start_job.lua", Long.class);
+    private static final DefaultRedisScript<Long> reconcileScript = EmbeddedRedis.script("reconcile_start_jobs.lua", Long.class);
+
+    private RedisTemplate<String, Object> template;
+
+    @BeforeAll
+    static void setUpAll() {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        template = redis.template();
+    }
+
+    @Test
+    public void 꺼낸_작업은_처리_중_목록에_claim_기한과_함께_남는다() {
+        template.opsForZSet().add(JOBS, "1", 1000);
+        template.opsForZSet().add(JOBS, "2", 5000);
+
+        assertEquals(List.of("1", "1000", "1"), claim(2000));
+
+        assertNull(template.opsForZSet().score(JOBS, "1"));
+        assertEquals(2000 + CLAIM_MS, template.opsForZSet().score(PROCESSING, "1"));
+        assertEquals(5000, template.opsForZSet().score(JOBS, "2"));
+    }
+
+    @Test
+    public void 처리_도중_죽으면_claim_기한이_지난_뒤_다시_꺼내진다() {
+        template.opsForZSet().add(JOBS, "1", 1000);
+        claim(2000);
+
+        // 기한 전에는 다시 꺼내지지 않는다
+        assertEquals(List.of(), claim(2000 + CLAIM_MS - 1));
+        // 기한이 지나면 처음 예정 시각 그대로, 시도 횟수는 늘어서 다시 꺼내진다
+        assertEquals(List.of("1", "1000", "2"), claim(2000 + CLAIM_MS));
+    }
+
+    @Test
+    public void 시작이_끝나면_작업과_시도_횟수를_모두_지운다() {
+        template.opsForZSet().add(JOBS, "1", 1000);
+        claim(2000);
+
+        assertEquals(1L, finish("1", ""));
+
+        assertEquals(0, template.opsForZSet().zCard(JOBS));
+        assertEquals(0, template.opsForZSet().zCard(PROCESSING));
+        assertFalse(template.opsForHash().hasKey(SCHEDULED_AT, "1"));
+        assertFalse(template.opsForHash().hasKey(ATTEMPTS, "1"));
+    }
+
+    @Test
+    public void 재시도는_지정한_시각에_작업_목록으로_돌아가고_시도_횟수는_유지된다() {
+        template.opsForZSet().add(JOBS, "1", 1000);
+        claim(2000);
+
+        assertEquals(1L, finish("1", "7000"));
+
+        assertEquals(0, template.opsForZSet().zCard(PROCESSING));
+        assertEquals(List.of(), claim(6999));
+        assertEquals(List.of("1", "1000", "2"), claim(7000));
+    }
+
+    @Test
+    public void claim_기한이_지나_되돌아간_작업의_재시도는_중복으로_넣지_않는다() {
+        template.opsForZSet().add(JOBS, "1", 1000);
+        claim(2000);
+        // 다른 인스턴스가 기한 지난 작업을 되돌리고 다시 꺼냄
+        claim(2000 + CLAIM_MS);
+        template.opsForZSet().remove(PROCESSING, "1");
+        template.opsForZSet().add(JOBS, "1", 2000 + CLAIM_MS);
+
+        assertEquals(0L, finish("1", "9000"));
+        assertEquals(2000 + CLAIM_MS, template.opsForZSet().score(JOBS, "1"));
+    }
+
+    @Test
+    public void reconcile은_작업_목록과_처리_중_목록에_없는_경매만_넣는다() {
+        template.opsForZSet().add(JOBS, "1", 1000);
+        template.opsForZSet().add(PROCESSING, "2", 9000);
+
+        Long added = template.execute(reconcileScript, List.of(JOBS, PROCESSING),
+                "1", "500", "2", "500", "3", "3000");
+
+        assertEquals(1L, added);
+        assertEquals(1000, template.opsForZSet().score(JOBS, "1"));
+        assertNull(template.opsForZSet().score(JOBS, "2"));
+        assertEquals(3000, template.opsForZSet().score(JOBS, "3"));
+    }
+
+    private List<String> claim(long now) {
+        List<Object> result = template.execute(claimScript, JOB_KEYS,
+                String.valueOf(now), "10", String.valueOf(CLAIM_MS));
+        return result.stream()
+                .map(Object::toString)
+                .map(value -> value.endsWith(".0") ? value.substring(0, value.length() - 2) : value)
+                .toList();
+    }
+
+    private Long finish(String auctionId, String retryAt) {
+        return template.execute(finishScript, JOB_KEYS, auctionId, retryAt);
+    }
+}
@@ -0,0 +1,160 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.support.EmbeddedRedis;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// bid_commit.lua의 자동 입찰(proxy) 처리를 내장 Redis에서 실제로 실행
+class BidCommitScriptTest {
+    private static final String AUCTION_ID = "1";
+    private static final String SELLER_ID = "10";
+    private static final String BID_KEY = "auction_bid_" + AUCTION_ID;
+
+    private static EmbeddedRedis redis;
+    private static final DefaultRedisScript<List<Object>> bidCommitScript = EmbeddedRedis.listScript("bid_commit.lua");
+
+    @BeforeAll
+    static void setUpAll() {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        startAuction();
+    }
+
+    @Test
+    public void 자동입찰끼리_경쟁하면_두번째_최대금액_다음_호가로_한번에_정산한다() {
+        assertEquals(List.of("1", "8000"), bids(proxy(1, 30000, 1000, 8000)));
+
+        List<Object> result = proxy(2, 50000, 2000, 8000);
+
+        // 2가 다음 입찰가로 입찰 -> 1은 최대 금액 30000까지 입찰 -> 2가 30000 다음 호가로 최고 입찰
+        assertEquals(List.of("2", "13000", "1", "30000", "2", "40000"), bids(result));
+        assertBidState("2", 40000, 50000);
+    }
+
+    @Test
+    public void 최대금액이_같으면_먼저_정한_쪽이_그_금액으로_이긴다() {
+        // userId 순서가 아니라 등록 시각 순서로 결정되는지 보기 위해 큰 userId가 먼저 등록
+        proxy(2, 33000, 1000, 8000);
+
+        List<Object> result = proxy(1, 33000, 2000, 8000);
+
+        assertEquals(List.of("1", "13000", "2", "33000"), bids(result));
+        assertBidState("2", 33000, 43000);
+    }
+
+    @Test
+    public void 최고입찰자가_아닌_자동입찰의_최대금액이_같으면_먼저_정한_쪽이_입찰한다() {
+        setProxy(2, 100000, 1000);
+        setProxy(1, 100000, 2000);
+
+        List<Object> result = bid(4, 23000);
+
+        assertEquals(List.of("4", "23000", "2", "100000"), bids(result));
+        assertBidState("2", 100000, 130000);
+    }
+
+    @Test
+    public void 자동입찰이_여럿이면_두번째로_큰_최대금액까지만_기록하고_한번에_끝난다() {
+        setProxy(1, 50000, 1000);
+        setProxy(2, 40000, 2000);
+
+        List<Object> result = bid(3, 23000);
+
+        assertEquals(List.of("3", "23000", "2", "40000", "1", "50000"), bids(result));
+        assertBidState("1", 50000, 60000);
+    }
+
+    @Test
+    public void 다음_입찰가를_감당할_자동입찰이_없으면_가격이_바뀌지_않는다() {
+        setProxy(1, 25000, 1000);
+
+        List<Object> result = bid(3, 23000);
+
+        assertEquals(List.of("3", "23000"), bids(result));
+        assertBidState("3", 23000, 23001);
+    }
+
+    @Test
+    public void 호가_단위는_calculateBidIncrement와_같다() {
+        BidService bidService = Mockito.mock(BidService.class, Mockito.CALLS_REAL_METHODS);
+        double[] amounts = {2, 10000, 10001, 50000, 50001, 100000, 100001, 500000, 500001,
+                1000000, 1000001, 5000000, 5000001, 10000000, 10000001};
+        for (double amount : amounts) {
+            startAuction();
+            // 최대 금액이 충분한 자동 입찰이 있으면 일반 입찰 직후 정확히 한 호가 위로 입찰한다
+            proxy(1, 1_000_000_000, 1000, 1);
+
+            List<Object> result = bid(3, amount);
+
+            double expected = amount + bidService.calculateBidIncrement(amount);
+            List<String> bids = bids(result);
+            assertEquals("1", bids.get(2), "amount = " + amount);
+            assertEquals(expected, Double.parseDouble(bids.get(3)), "amount = " + amount);
+            assertEquals(expected + bidService.calculateBidIncrement(expected),
+                    Double.parseDouble(result.get(3).toString()), "amount = " + amount);
+        }
+    }
+
+    private void startAuction() {
+        redis.flushAll();
+        redis.template().opsForValue().set("auction_end_" + AUCTION_ID, "0", 60, TimeUnit.SECONDS);
+    }
+
+    private List<Object> proxy(long userId, double maxBid, long now, double minBid) {
+        return execute(userId, "", "", now, "PROXY", String.valueOf(maxBid), minBid);
+    }
+
+    private List<Object> bid(long userId, double amount) {
+        return execute(userId, String.valueOf(amount), String.valueOf(amount + 1), 3000, "BID", "", 1);
+    }
+
+    // 입찰 없이 자동 입찰 최대 금액만 등록해 둔다
+    private void setProxy(long userId, double maxBid, long now) {
+        redis.template().opsForHash().putAll("auction_proxy_" + AUCTION_ID,
+                Map.of(String.valueOf(userId), String.valueOf(maxBid), "t:" + userId, String.valueOf(now)));
+    }
+
+    private List<Object> execute(long userId, String amount, String nextBid, long now, String mode,
+                                 String maxBid, double minBid) {
+        List<Object> result = redis.template().execute(bidCommitScript,
+                List.of(BID_KEY, "auction_end_" + AUCTION_ID, "auction_deadlines", "auction_dirty",
+                        "auction_proxy_" + AUCTION_ID),
+                String.valueOf(userId), SELLER_ID, amount, nextBid, "30000", AUCTION_ID,
+                String.valueOf(now), mode, maxBid, String.valueOf(minBid));
+        assertEquals("OK", result.get(0), "result = " + result);
+        return result;
+    }
+
+    // 결과에서 (입찰자, 입찰가) 목록만 꺼낸다 (금액은 정수로)
+    private List<String> bids(List<Object> result) {
+        return result.subList(4, result.size()).stream()
+                .map(Object::toString)
+                .map(value -> value.endsWith(".0") ? value.substring(0, value.length() - 2) : value)
+                .toList();
+    }
+
+    private void assertBidState(String userId, double bidAmount, double nextBid) {
+        Map<Object, Object> state = redis.template().opsForHash().entries(BID_KEY);
+        assertEquals(userId, state.get("userId"));
+        assertEquals(bidAmount, Double.parseDouble(state.get("bidAmount").toString()));
+        assertEquals(nextBid, Double.parseDouble(state.get("nextBid").toString()));
+    }
+}
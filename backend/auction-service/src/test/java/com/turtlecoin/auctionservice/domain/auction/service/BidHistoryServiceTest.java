@@ -0,0 +1,111 @@
+package com.turtlecoin.auctionservice.domain.auction.service;
+
+import com.turtlecoin.auctionservice.domain.auction.dto.BidHistoryDTO;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BidHistoryServiceTest {
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private BidHistoryService bidHistoryService;
+    private final UserService userService = mock(UserService.class);
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:bid_history;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS auction_bid_history");
+        // 음수 입찰가는 저장되지 않는 행(poison row) 역할
+        jdbcTemplate.execute("CREATE TABLE auction_bid_history (id BIGINT AUTO_INCREMENT PRIMARY KEY, auction_id BIGINT, " +
+                "user_id BIGINT, bid_amount DOUBLE CHECK (bid_amount > 0), bid_time TIMESTAMP)");
+        meterRegistry = new SimpleMeterRegistry();
+        // 주기 저장은 테스트 중에 돌지 않도록 길게 두고 flush를 직접 호출
+        bidHistoryService = new BidHistoryService(jdbcTemplate, transactionTemplate, userService, meterRegistry,
+                50, 50, 3_600_000, 500, 100, 2, 1, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bidHistoryService.destroy();
+    }
+
+    @Test
+    public void 저장에_성공하면_대기열이_비워진다() {
+        bidHistoryService.record(1L, 10L, null, 8000.0);
+        bidHistoryService.record(1L, 20L, null, 13000.0);
+
+        bidHistoryService.flush();
+
+        assertEquals(2, countRows());
+        assertEquals(0, meterRegistry.get("auction.bid.history.pending").gauge().value());
+    }
+
+    @Test
+    public void 재시도_한도를_넘긴_배치는_문제_행만_버린다() {
+        bidHistoryService.record(1L, 10L, null, 8000.0);
+        bidHistoryService.record(1L, 20L, null, -1.0);
+        bidHistoryService.record(1L, 30L, null, 13000.0);
+
+        // 첫 실패는 다시 대기열로
+        assertThrows(Exception.class, bidHistoryService::flush);
+        assertEquals(0, countRows());
+
+        // 한도에 도달하면 한 건씩 저장해서 정상 행은 저장하고 문제 행만 버린다
+        assertThrows(Exception.class, bidHistoryService::flush);
+        assertEquals(2, countRows());
+        assertEquals(1, meterRegistry.get("auction.bid.history.failed").counter().count());
+        assertEquals(0, meterRegistry.get("auction.bid.history.pending").gauge().value());
+
+        // 더 이상 재시도하지 않는다
+        assertDoesNotThrow(bidHistoryService::flush);
+        assertEquals(2, countRows());
+    }
+
+    @Test
+    public void 조회할_때_채운_닉네임은_ring에_남지_않는다() {
+        bidHistoryService.record(1L, 10L, null, 8000.0);
+        when(userService.prefetchNicknames(any())).thenReturn(Map.of(10L, "이전 닉네임"), Map.of(10L, "바뀐 닉네임"));
+
+        assertEquals("이전 닉네임", bidHistoryService.getRecentBids(1L, 1).get(0).getNickname());
+        assertEquals("바뀐 닉네임", bidHistoryService.getRecentBids(1L, 1).get(0).getNickname());
+    }
+
+    @Test
+    public void ring만으로_채울_수_있으면_바로_완료하고_아니면_조회_스레드에서_채운다() {
+        bidHistoryService.record(1L, 10L, "닉네임", 8000.0);
+
+        CompletableFuture<List<BidHistoryDTO>> hot = bidHistoryService.getRecentBidsAsync(1L, 1);
+        assertTrue(hot.isDone());
+        assertEquals("닉네임", hot.join().get(0).getNickname());
+        verifyNoInteractions(userService);
+
+        // ring에 없는 만큼은 DB에서 읽는다
+        jdbcTemplate.update("INSERT INTO auction_bid_history (auction_id, user_id, bid_amount, bid_time) " +
+                "VALUES (1, 20, 5000, CURRENT_TIMESTAMP)");
+        when(userService.prefetchNicknames(any())).thenReturn(Map.of(20L, "DB 닉네임"));
+
+        List<BidHistoryDTO> cold = bidHistoryService.getRecentBidsAsync(1L, 2).join();
+        assertEquals(List.of(8000.0, 5000.0), cold.stream().map(BidHistoryDTO::getBidAmount).toList());
+        assertEquals("DB 닉네임", cold.get(1).getNickname());
+    }
+
+    private int countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM auction_bid_history", Integer.class);
+    }
+}
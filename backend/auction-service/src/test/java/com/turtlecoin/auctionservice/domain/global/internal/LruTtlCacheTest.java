@@ -0,0 +1,50 @@
+package com.turtlecoin.auctionservice.domain.global.internal;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruTtlCacheTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    public void 최대_개수를_넘으면_가장_오래_안_쓴_항목을_뺀다() {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test.cache", registry, 2, 60000);
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        cache.get(1L);
+
+        cache.put(3L, "c");
+
+        assertEquals("a", cache.get(1L));
+        assertNull(cache.get(2L));
+        assertEquals("c", cache.get(3L));
+        assertEquals(2.0, registry.get("test.cache.size").gauge().value());
+    }
+
+    @Test
+    public void TTL이_지나면_없는_것으로_본다() throws InterruptedException {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test.cache", registry, 10, 1);
+        cache.put(1L, "a");
+
+        Thread.sleep(5);
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    public void 조회_결과를_hit_miss로_센다() {
+        LruTtlCache<Long, String> cache = new LruTtlCache<>("test.cache", registry, 10, 60000);
+        cache.put(1L, "a");
+
+        cache.get(1L);
+        cache.get(2L);
+        assertTrue(cache.remove(1L));
+        assertFalse(cache.remove(1L));
+        cache.get(1L);
+
+        assertEquals(1.0, registry.get("test.cache").tag("result", "hit").counter().count());
+        assertEquals(2.0, registry.get("test.cache").tag("result", "miss").counter().count());
+    }
+}
@@ -0,0 +1,65 @@
+package com.turtlecoin.auctionservice.domain.global.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    @Test
+    public void 만료시각이_지난_항목은_추가되지_않는다() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, 1000);
+
+        assertFalse(wheel.add(1L, 1005));
+        assertTrue(wheel.add(2L, 1010));
+    }
+
+    @Test
+    public void 하위휠_범위안의_항목은_해당_틱에_만료된다() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, 1000);
+        List<Long> expired = new ArrayList<>();
+        wheel.add(1L, 1035);
+
+        wheel.advanceClock(1029, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advanceClock(1030, expired::add);
+        assertEquals(List.of(1L), expired);
+    }
+
+    @Test
+    public void 상위휠의_항목은_하위휠로_내려와서_만료된다() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, 1000);
+        List<Long> expired = new ArrayList<>();
+        // 하위 휠 범위는 80ms, 상위 휠 범위는 640ms
+        wheel.add(1L, 1500);
+        wheel.add(2L, 1200);
+
+        wheel.advanceClock(1199, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advanceClock(1200, expired::add);
+        assertEquals(List.of(2L), expired);
+
+        wheel.advanceClock(1499, expired::add);
+        assertEquals(List.of(2L), expired);
+
+        wheel.advanceClock(1500, expired::add);
+        assertEquals(List.of(2L, 1L), expired);
+    }
+
+    @Test
+    public void 시계가_크게_건너뛰어도_모든_항목이_만료된다() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, 1000);
+        List<Long> expired = new ArrayList<>();
+        wheel.add(1L, 1020);
+        wheel.add(2L, 3000);
+        wheel.add(3L, 60000);
+
+        wheel.advanceClock(100000, expired::add);
+        assertEquals(List.of(1L, 2L, 3L), expired);
+    }
+}
@@ -0,0 +1,68 @@
+package com.turtlecoin.auctionservice.domain.turtle.service;
+
+import com.turtlecoin.auctionservice.domain.turtle.dto.TurtleChangedEventDTO;
+import com.turtlecoin.auctionservice.domain.turtle.entity.AuctionTurtle;
+import com.turtlecoin.auctionservice.domain.turtle.entity.Gender;
+import com.turtlecoin.auctionservice.domain.turtle.repository.AuctionTurtleRepository;
+import com.turtlecoin.auctionservice.feign.MainClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuctionTurtleServiceTest {
+    private final AuctionTurtleRepository auctionTurtleRepository = mock(AuctionTurtleRepository.class);
+    private AuctionTurtleService auctionTurtleService;
+    private AuctionTurtle turtle;
+
+    @BeforeEach
+    void setUp() {
+        auctionTurtleService = new AuctionTurtleService(auctionTurtleRepository, mock(MainClient.class),
+                mock(TransactionTemplate.class));
+        turtle = AuctionTurtle.builder()
+                .id(10L)
+                .gender(Gender.FEMALE)
+                .weight(300)
+                .scientificName("다이아몬드 백 테라핀")
+                .ownerId(1L)
+                .build();
+        when(auctionTurtleRepository.findById(10L)).thenReturn(Optional.of(turtle));
+    }
+
+    @AfterEach
+    void tearDown() {
+        auctionTurtleService.destroy();
+    }
+
+    @Test
+    public void 양도_이벤트를_받으면_소유자가_바뀐다() {
+        auctionTurtleService.onTurtleChanged(event(false, 2L));
+
+        assertEquals(2L, turtle.getOwnerId());
+        assertFalse(turtle.isDead());
+    }
+
+    @Test
+    public void 폐사_이벤트를_받으면_폐사로_표시된다() {
+        auctionTurtleService.onTurtleChanged(event(true, 1L));
+
+        assertTrue(turtle.isDead());
+        assertEquals(1L, turtle.getOwnerId());
+    }
+
+    private TurtleChangedEventDTO event(boolean dead, Long ownerId) {
+        return TurtleChangedEventDTO.builder()
+                .turtleId(10L)
+                .gender(Gender.FEMALE)
+                .weight(300)
+                .scientificName("다이아몬드 백 테라핀")
+                .dead(dead)
+                .ownerId(ownerId)
+                .build();
+    }
+}
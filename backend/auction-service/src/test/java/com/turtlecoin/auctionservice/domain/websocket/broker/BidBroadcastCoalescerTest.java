@@ -0,0 +1,81 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import com.turtlecoin.auctionservice.feign.service.UserService;
+import com.turtlecoin.auctionservice.support.EmbeddedRedis;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BidBroadcastCoalescerTest {
+    private static final Long AUCTION_ID = 1L;
+    private static final String DESTINATION = "/sub/auction/" + AUCTION_ID;
+
+    private static EmbeddedRedis redis;
+
+    private final BroadcastRelay broadcastRelay = mock(BroadcastRelay.class);
+    private BroadcastSequencer broadcastSequencer;
+    private BidBroadcastCoalescer coalescer;
+
+    @BeforeAll
+    static void setUpAll() {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        redis.template().opsForValue().set("auction_end_" + AUCTION_ID, "0", 60, TimeUnit.SECONDS);
+        broadcastSequencer = new BroadcastSequencer(redis.template(),
+                EmbeddedRedis.script("next_live_seq.lua", Long.class));
+        coalescer = new BidBroadcastCoalescer(broadcastRelay, broadcastSequencer, mock(UserService.class),
+                new SimpleMeterRegistry(), 50, "delta");
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.destroy();
+    }
+
+    @Test
+    public void 진행_중인_경매의_입찰은_window가_끝나면_순번과_함께_전송된다() {
+        coalescer.submit(AUCTION_ID, bid(10000));
+        coalescer.submit(AUCTION_ID, bid(15000));
+
+        verify(broadcastRelay, timeout(1000)).publish(eq(DESTINATION), any(), eq(1L));
+        verifyNoMoreInteractions(broadcastRelay);
+    }
+
+    @Test
+    public void window_안에_마감되면_입찰_프레임은_종료_프레임_뒤에_나가지_않는다() throws InterruptedException {
+        coalescer.submit(AUCTION_ID, bid(10000));
+        // 마감: 마감 키를 지운 뒤 종료 프레임 순번 발급 (AuctionCloseScheduler -> SendService.endAuction)
+        redis.template().delete("auction_end_" + AUCTION_ID);
+        Long endSeq = broadcastSequencer.next(AUCTION_ID);
+
+        Thread.sleep(200);
+
+        Assertions.assertEquals(1L, endSeq);
+        verifyNoInteractions(broadcastRelay);
+    }
+
+    private BidMessage bid(double amount) {
+        return BidMessage.builder()
+                .auctionId(AUCTION_ID)
+                .userId(2L)
+                .nickname("거북이")
+                .bidAmount(amount)
+                .nextBid(amount + 5000)
+                .build();
+    }
+}
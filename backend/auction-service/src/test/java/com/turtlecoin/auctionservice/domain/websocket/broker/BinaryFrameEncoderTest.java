@@ -0,0 +1,68 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidDeltaFrame;
+import com.turtlecoin.auctionservice.domain.websocket.dto.BidMessage;
+import com.turtlecoin.auctionservice.global.response.ResponseVO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFrameEncoderTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final BinaryFrameEncoder encoder = new BinaryFrameEncoder(objectMapper,
+            Jackson2ObjectMapperBuilder.json(), new SimpleMeterRegistry());
+    private final CBORMapper cborReader = new CBORMapper();
+
+    private final BidMessage bidMessage = BidMessage.builder()
+            .auctionId(1532L)
+            .userId(20481L)
+            .nickname("거북이사랑")
+            .bidAmount(1_250_000.0)
+            .nextBid(1_300_000.0)
+            .remainingTime(29_500.0)
+            .endAt(1_792_300_000_000L)
+            .serverTime(1_792_299_970_500L)
+            .build();
+
+    @Test
+    public void 객체에서_바로_만든_CBOR는_JSON과_내용이_같다() throws Exception {
+        for (Object frame : new Object[]{bidFrame(), BidDeltaFrame.from(bidMessage)}) {
+            byte[] json = objectMapper.writeValueAsBytes(frame);
+
+            JsonNode expected = objectMapper.readTree(json);
+            assertEquals(expected, decode(encoder.encode(frame)));
+            assertEquals(expected, decode(encoder.fromJson(json)));
+        }
+    }
+
+    @Test
+    public void CBOR_프레임은_JSON보다_작다() throws Exception {
+        for (Object frame : new Object[]{bidFrame(), BidDeltaFrame.from(bidMessage)}) {
+            int json = objectMapper.writeValueAsBytes(frame).length;
+            int cbor = encoder.encode(frame).length;
+
+            System.out.printf("%s: JSON %d bytes, CBOR %d bytes (%.2f)%n",
+                    frame.getClass().getSimpleName(), json, cbor, (double) cbor / json);
+            assertTrue(cbor < json);
+        }
+    }
+
+    // 손실 없이 4바이트 float로 기록된 소수는 FloatNode로 읽히므로 JSON을 거쳐 비교
+    private JsonNode decode(byte[] cbor) throws Exception {
+        return objectMapper.readTree(objectMapper.writeValueAsBytes(cborReader.readTree(cbor)));
+    }
+
+    private ResponseVO<Object> bidFrame() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("bidRecord", bidMessage);
+        return ResponseVO.bidSuccess("Bid", "200", data);
+    }
+}
@@ -0,0 +1,52 @@
+package com.turtlecoin.auctionservice.domain.websocket.broker;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadcastFrameRingTest {
+    private static final String DESTINATION = "/sub/auction/1";
+
+    private final BroadcastFrameRing ring = new BroadcastFrameRing(4, 10);
+
+    @Test
+    public void 놓친_프레임을_순서대로_돌려준다() {
+        // 여러 인스턴스에서 발행되면 순서가 섞여 도착할 수 있다
+        append(2, 4, 3, 1);
+
+        assertEquals(List.of(2L, 3L, 4L), seqs(ring.framesAfter(DESTINATION, 1)));
+        assertEquals(List.of(), seqs(ring.framesAfter(DESTINATION, 4)));
+    }
+
+    @Test
+    public void 중간에_빠진_프레임이_있으면_null() {
+        append(7, 9);
+
+        assertNull(ring.framesAfter(DESTINATION, 6));
+        assertEquals(List.of(9L), seqs(ring.framesAfter(DESTINATION, 8)));
+
+        append(8);
+        assertEquals(List.of(7L, 8L, 9L), seqs(ring.framesAfter(DESTINATION, 6)));
+    }
+
+    @Test
+    public void ring에서_밀려난_프레임이_필요하면_null() {
+        append(1, 2, 3, 4, 5, 6);
+
+        assertNull(ring.framesAfter(DESTINATION, 1));
+        assertEquals(List.of(3L, 4L, 5L, 6L), seqs(ring.framesAfter(DESTINATION, 2)));
+        assertNull(ring.framesAfter("/sub/auction/2", 0));
+    }
+
+    private void append(long... seqs) {
+        for (long seq : seqs) {
+            ring.append(DESTINATION, seq, new byte[]{(byte) seq});
+        }
+    }
+
+    private List<Long> seqs(List<BroadcastFrameRing.Frame> frames) {
+        return frames.stream().map(BroadcastFrameRing.Frame::seq).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.turtlecoin.auctionservice.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorCodecTest {
+
+    @Test
+    public void 인코딩한_커서를_디코딩하면_같은_id가_나온다() {
+        for (long id : new long[]{1L, 42L, Long.MAX_VALUE}) {
+            String cursor = CursorCodec.encode(CursorCodec.ID_ORDER, id);
+
+            assertFalse(cursor.contains("="), cursor);
+            assertEquals(id, CursorCodec.decode(cursor, CursorCodec.ID_ORDER));
+        }
+    }
+
+    @Test
+    public void 마지막_페이지와_첫_페이지는_null이다() {
+        assertNull(CursorCodec.encode(CursorCodec.ID_ORDER, null));
+        assertNull(CursorCodec.decode(null, CursorCodec.ID_ORDER));
+        assertNull(CursorCodec.decode("", CursorCodec.ID_ORDER));
+        assertNull(CursorCodec.decode("  ", CursorCodec.ID_ORDER));
+    }
+
+    @Test
+    public void 형식이_잘못된_커서는_IllegalArgumentException() {
+        String noPrefix = Base64.getUrlEncoder().encodeToString("42".getBytes(StandardCharsets.UTF_8));
+        String notNumber = Base64.getUrlEncoder().encodeToString("id:abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode("@@@", CursorCodec.ID_ORDER));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(noPrefix, CursorCodec.ID_ORDER));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(notNumber, CursorCodec.ID_ORDER));
+    }
+
+    @Test
+    public void 다른_정렬에서_발급한_커서는_거부한다() {
+        String priceCursor = CursorCodec.encode("price", 42L);
+
+        assertEquals(42L, CursorCodec.decode(priceCursor, "price"));
+        assertThrows(IllegalArgumentException.class, () -> CursorCodec.decode(priceCursor, CursorCodec.ID_ORDER));
+        assertThrows(IllegalArgumentException.class,
+                () -> CursorCodec.decode(CursorCodec.encode(CursorCodec.ID_ORDER, 42L), "price"));
+    }
+}
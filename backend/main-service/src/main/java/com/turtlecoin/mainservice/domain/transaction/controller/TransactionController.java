@@ -54,8 +54,9 @@ public class TransactionController {
                                                 @RequestParam(value="size", required = false) String size,
                                                 @RequestParam(value="price", required = false) String price,
                                                 @RequestParam(value="progress", required = false) Integer progress,
-                                                @RequestParam(value="page", defaultValue = "0") int page){
-        return transactionService.getEntireTransaction(gender, size, price, progress, page);
+                                                @RequestParam(value="page", defaultValue = "0") int page,
+                                                @RequestParam(value="cursor", required = false) String cursor){
+        return transactionService.getEntireTransaction(gender, size, price, progress, page, cursor);
     }
 
     // 상세 거래 조회
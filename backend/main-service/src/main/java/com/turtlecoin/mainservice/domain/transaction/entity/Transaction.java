@@ -16,7 +16,10 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "transaction")
+// 목록 조회는 (필터 컬럼, id) 순서로 keyset 페이지네이션
+@Table(name = "transaction", indexes = {
+        @Index(name = "idx_transaction_flag_progress_id", columnList = "auction_flag, progress, id")
+})
 public class Transaction extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,6 +42,30 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
             @Param("progressList") List<TransactionProgress> progressList,
             Pageable pageable
     );
+
+    // 커서(마지막으로 받은 거래 ID) 다음부터 조회, 개수는 pageable의 size만큼 (count 쿼리 없음)
+    @Query("SELECT t FROM Transaction t WHERE "
+            + "(:gender IS NULL OR t.turtle.gender = :gender) "
+            + "AND (:sizeMin IS NULL OR t.turtle.weight >= :sizeMin) "
+            + "AND (:sizeMax IS NULL OR t.turtle.weight <= :sizeMax) "
+            + "AND (:priceMin IS NULL OR t.price >= :priceMin) "
+            + "AND (:priceMax IS NULL OR t.price <= :priceMax) "
+            + "AND (:progressList IS NULL OR t.progress IN :progressList) "
+            + "AND t.auctionFlag = false "
+            + "AND (:afterId IS NULL OR t.id > :afterId) "
+            + "ORDER BY t.id ASC"
+    )
+    List<Transaction> findFilteredTransactionsAfter(
+            @Param("gender") Gender gender,
+            @Param("sizeMin") Double sizeMin,
+            @Param("sizeMax") Double sizeMax,
+            @Param("priceMin") Double priceMin,
+            @Param("priceMax") Double priceMax,
+            @Param("progressList") List<TransactionProgress> progressList,
+            @Param("afterId") Long afterId,
+            Pageable pageable
+    );
+
     Optional<Transaction> findOneById(Long id);
 
     @Query("SELECT t FROM Transaction t WHERE t.buyerId = :id OR t.turtle.user.id = :id")
@@ -18,11 +18,13 @@ import com.turtlecoin.mainservice.domain.user.entity.User;
 import com.turtlecoin.mainservice.domain.user.exception.UserNotFoundException;
 import com.turtlecoin.mainservice.domain.user.service.JWTService;
 import com.turtlecoin.mainservice.global.response.ResponseVO;
+import com.turtlecoin.mainservice.global.util.CursorCodec;
 import jakarta.transaction.Transactional;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,9 @@ import java.util.stream.Collectors;
 
 @Service
 public class TransactionService {
+    // 거래 목록 한 페이지 크기
+    private static final int PAGE_SIZE = 20;
+
     private final ImageUploadService imageUploadService;
     private final TurtleRepository turtleRepository;
     private final TransactionRepository transactionRepository;
@@ -124,9 +129,9 @@ public class TransactionService {
     }
 
     // 전체 거래 조회
-    public ResponseEntity<?> getEntireTransaction(Gender gender, String size, String price, Integer progress, int page) {
+    public ResponseEntity<?> getEntireTransaction(Gender gender, String size, String price, Integer progress, int page, String cursor) {
         try{
-            Pageable pageable = PageRequest.of(page, 20);
+            Long afterId = CursorCodec.decode(cursor, CursorCodec.ID_ORDER);
 
             Double sizeMin = null, sizeMax = null, priceMin = null, priceMax = null;
 
@@ -144,18 +149,36 @@ public class TransactionService {
 
             List<TransactionProgress> progressList = (progress != null)? getProgressList(progress) : null;
 
-            Page<Transaction> transactionPage = transactionRepository.findFilteredTransactions(
-                    gender, sizeMin, sizeMax, priceMin, priceMax, progressList, pageable
-            );
+            // cursor가 있으면 keyset 페이지네이션 (한 개 더 읽어서 다음 페이지 여부만 판단, 전체 개수는 세지 않음)
+            // 없으면 기존 page 방식
+            List<Transaction> transactions;
+            boolean hasNext;
             Map<String,Object> data = new HashMap<>();
-            List<DetailTransactionResponseDto> transactionDtos = transactionPage.getContent().stream()
+            if (cursor != null) {
+                transactions = transactionRepository.findFilteredTransactionsAfter(
+                        gender, sizeMin, sizeMax, priceMin, priceMax, progressList, afterId, PageRequest.ofSize(PAGE_SIZE + 1)
+                );
+                hasNext = transactions.size() > PAGE_SIZE;
+                if (hasNext) {
+                    transactions = transactions.subList(0, PAGE_SIZE);
+                }
+            } else {
+                Pageable pageable = PageRequest.of(page, PAGE_SIZE, Sort.by("id"));
+                Page<Transaction> transactionPage = transactionRepository.findFilteredTransactions(
+                        gender, sizeMin, sizeMax, priceMin, priceMax, progressList, pageable
+                );
+                transactions = transactionPage.getContent();
+                hasNext = transactionPage.hasNext();
+                data.put("current_page", page);
+                data.put("total_pages", transactionPage.getTotalPages());
+            }
+            List<DetailTransactionResponseDto> transactionDtos = transactions.stream()
                     .map(Transaction::toResponseDTO)  // Transaction에서 DTO로 변환하는 메서드 호출
                     .collect(Collectors.toList());
 
             data.put("cnt",transactionDtos.size());
-            data.put("current_page", page);
             data.put("transactions", transactionDtos);
-            data.put("total_pages", transactionPage.getTotalPages());
+            data.put("next_cursor", hasNext && !transactions.isEmpty() ? CursorCodec.encode(CursorCodec.ID_ORDER, transactions.get(transactions.size() - 1).getId()) : null);
             return new ResponseEntity<>(ResponseVO.success("요청한 조회가 성공적으로 진행되었습니다.","data",data),HttpStatus.OK);
 
         }catch (NumberFormatException e) {
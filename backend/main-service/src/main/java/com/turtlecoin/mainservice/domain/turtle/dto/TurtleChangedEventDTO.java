@@ -0,0 +1,31 @@
+package com.turtlecoin.mainservice.domain.turtle.dto;
+
+import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
+import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
+import lombok.*;
+
+// 거북이 정보 변경 이벤트 (auction-service의 거북이 속성 사본 갱신용)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class TurtleChangedEventDTO {
+    private Long turtleId;
+    private Gender gender;
+    private int weight;
+    private String scientificName;
+    private boolean dead;
+    // 현재 소유자 (양도되면 바뀜)
+    private Long ownerId;
+
+    public static TurtleChangedEventDTO from(Turtle turtle) {
+        return TurtleChangedEventDTO.builder()
+                .turtleId(turtle.getId())
+                .gender(turtle.getGender())
+                .weight(turtle.getWeight())
+                .scientificName(turtle.getScientificName())
+                .dead(turtle.isDead())
+                .ownerId(turtle.getUser() == null ? null : turtle.getUser().getId())
+                .build();
+    }
+}
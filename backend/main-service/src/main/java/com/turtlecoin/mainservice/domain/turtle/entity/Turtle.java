@@ -1,6 +1,7 @@
 package com.turtlecoin.mainservice.domain.turtle.entity;
 
 import com.turtlecoin.mainservice.domain.transaction.entity.Transaction;
+import com.turtlecoin.mainservice.domain.turtle.event.TurtleChangeListener;
 import com.turtlecoin.mainservice.global.entity.BaseEntity;
 import com.turtlecoin.mainservice.domain.user.entity.User;
 import jakarta.persistence.*;
@@ -20,6 +21,7 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 @Table(name = "turtle")
+@EntityListeners(TurtleChangeListener.class)
 public class Turtle extends BaseEntity {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
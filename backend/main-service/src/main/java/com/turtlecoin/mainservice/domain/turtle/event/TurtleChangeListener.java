@@ -0,0 +1,23 @@
+package com.turtlecoin.mainservice.domain.turtle.event;
+
+import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+// 거북이 엔티티 리스너: 등록, 정보 수정, 폐사, 양도 등 어느 경로로 바뀌었든 flush 시점에 변경 이벤트를 보낸다
+// (이벤트 전송은 TurtleEventPublisher가 커밋 이후로 미룬다)
+@Component
+@RequiredArgsConstructor
+public class TurtleChangeListener {
+    // 엔티티 리스너는 EntityManagerFactory를 만들 때 생성되므로 RabbitTemplate 쪽 빈은 사용할 때 가져온다
+    private final ObjectProvider<TurtleEventPublisher> turtleEventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(Turtle turtle) {
+        turtleEventPublisher.getObject().publishChanged(turtle);
+    }
+}
@@ -0,0 +1,47 @@
+package com.turtlecoin.mainservice.domain.turtle.event;
+
+import com.turtlecoin.mainservice.domain.turtle.dto.TurtleChangedEventDTO;
+import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 거북이 속성(성별, 무게, 학명, 폐사 여부, 소유자)이 저장/변경되면 auction-service에 알린다
+// 호출은 TurtleChangeListener가 엔티티 변경마다 한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TurtleEventPublisher {
+    private static final String TURTLE_EVENT_EXCHANGE = "turtle.event.exchange";
+    private static final String TURTLE_EVENT_ROUTING_KEY = "turtle.event.key";
+
+    private final RabbitTemplate rabbitTemplate;
+
+    // 트랜잭션 안이면 커밋된 뒤에 보내서 롤백된 값이 전파되지 않게 한다
+    public void publishChanged(Turtle turtle) {
+        TurtleChangedEventDTO event = TurtleChangedEventDTO.from(turtle);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+            return;
+        }
+        send(event);
+    }
+
+    private void send(TurtleChangedEventDTO event) {
+        try {
+            rabbitTemplate.convertAndSend(TURTLE_EVENT_EXCHANGE, TURTLE_EVENT_ROUTING_KEY, event);
+        } catch (AmqpException e) {
+            // 이벤트 전송 실패가 거북이 저장을 막지는 않는다
+            log.error("거북이 변경 이벤트 전송 실패: turtleId = {}", event.getTurtleId(), e);
+        }
+    }
+}
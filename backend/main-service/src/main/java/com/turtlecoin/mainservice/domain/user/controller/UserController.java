@@ -191,4 +191,20 @@ public class UserController {
         return user.getNickname();
     }
 
+    // auction-service에서 여러 유저의 닉네임을 한 번에 조회할 때 사용
+    @PostMapping("/nicknames")
+    public Map<Long, String> getUserNicknamesByIds(@RequestBody List<Long> userIds) {
+        Map<Long, String> nicknames = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            nicknames.put(user.getId(), user.getNickname());
+        }
+        return nicknames;
+    }
+
+    // auction-service에서 경매 목록의 판매자 정보를 한 번에 조회할 때 사용
+    @PostMapping("/list")
+    public List<UserResponseDTO> getUsersByIds(@RequestBody List<Long> userIds) {
+        return userService.getByUserIds(userIds);
+    }
+
 }
@@ -116,6 +116,21 @@ public class UserService {
         }
     }
 
+    // 여러 유저 정보를 한 번에 조회 (없는 유저는 결과에서 빠짐)
+    public List<UserResponseDTO> getByUserIds(List<Long> userIds) {
+        return userRepository.findAllById(userIds).stream()
+                .map(user -> UserResponseDTO.builder()
+                        .userId(user.getId())
+                        .email(user.getEmail())
+                        .nickname(user.getNickname())
+                        .name(user.getName())
+                        .address(user.getAddress())
+                        .birth(user.getBirth())
+                        .profileImage(user.getProfileImage())
+                        .build())
+                .toList();
+    }
+
     public UserResponseDTO getByUserId(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
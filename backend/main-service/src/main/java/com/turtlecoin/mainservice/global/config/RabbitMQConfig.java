@@ -46,6 +46,12 @@ public class RabbitMQConfig {
         return BindingBuilder.bind(auctionResultQueue).to(auctionResultExchange).with("auction.result.key");
     }
 
+    // 거북이 변경 이벤트 (main-service -> auction-service, 큐는 auction-service에서 선언)
+    @Bean
+    DirectExchange turtleEventExchange() {
+        return new DirectExchange("turtle.event.exchange");
+    }
+
     // 4. 메시지 전송/수신을 위한 JSON 메시지 컨버터 설정
     @Bean
     public MessageConverter messageConverter() {
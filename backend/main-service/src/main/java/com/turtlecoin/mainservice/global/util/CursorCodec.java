@@ -0,0 +1,44 @@
+package com.turtlecoin.mainservice.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 목록 조회 커서 ("정렬 기준:마지막으로 받은 행의 id")
+// 커서에는 id만 들어 있으므로 id 순으로 정렬한 목록에서만 쓸 수 있다
+// 다른 정렬에 id 커서를 쓰면 행이 빠지거나 겹치므로, 발급한 정렬과 다른 정렬로 들어온 커서는 거부한다
+// 클라이언트는 값을 해석하지 않고 그대로 돌려주기만 하면 된다
+// auction-service에도 같은 클래스가 있다 (서비스마다 빌드가 따로라 공유 모듈 없이 각자 가지며,
+// 커서는 발급한 서비스로만 돌아오므로 두 사본의 형식을 맞출 필요는 없다)
+public final class CursorCodec {
+    // id 오름차순 목록
+    public static final String ID_ORDER = "id";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String order, Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((order + ":" + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 null (첫 페이지), 형식이 잘못됐거나 order와 다른 정렬의 커서면 IllegalArgumentException
+    public static Long decode(String cursor, String order) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String prefix = order + ":";
+            if (!decoded.startsWith(prefix)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return Long.parseLong(decoded.substring(prefix.length()));
+        } catch (IllegalArgumentException e) {
+            // NumberFormatException 포함
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
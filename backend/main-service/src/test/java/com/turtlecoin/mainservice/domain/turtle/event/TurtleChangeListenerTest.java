@@ -0,0 +1,74 @@
+package com.turtlecoin.mainservice.domain.turtle.event;
+
+import com.turtlecoin.mainservice.domain.turtle.dto.TurtleChangedEventDTO;
+import com.turtlecoin.mainservice.domain.turtle.entity.Gender;
+import com.turtlecoin.mainservice.domain.turtle.entity.Turtle;
+import com.turtlecoin.mainservice.domain.user.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TurtleChangeListenerTest {
+    private final TurtleEventPublisher turtleEventPublisher = mock(TurtleEventPublisher.class);
+    private TurtleChangeListener listener;
+
+    private final User seller = User.builder().id(1L).build();
+    private final User buyer = User.builder().id(2L).build();
+    private Turtle turtle;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<TurtleEventPublisher> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(turtleEventPublisher);
+        listener = new TurtleChangeListener(provider);
+        turtle = Turtle.builder()
+                .id(10L)
+                .scientificName("다이아몬드 백 테라핀")
+                .gender(Gender.FEMALE)
+                .weight(300)
+                .user(seller)
+                .build();
+    }
+
+    @Test
+    public void 거북이_엔티티에_리스너가_등록되어_있다() throws NoSuchMethodException {
+        jakarta.persistence.EntityListeners listeners = Turtle.class.getAnnotation(jakarta.persistence.EntityListeners.class);
+        assertArrayEquals(new Class<?>[]{TurtleChangeListener.class}, listeners.value());
+        assertNotNull(TurtleChangeListener.class.getMethod("onChanged", Turtle.class).getAnnotation(PostPersist.class));
+        assertNotNull(TurtleChangeListener.class.getMethod("onChanged", Turtle.class).getAnnotation(PostUpdate.class));
+    }
+
+    @Test
+    public void 양도되면_새_소유자로_이벤트를_보낸다() {
+        turtle.turtleTransfer(buyer);
+        listener.onChanged(turtle);
+
+        TurtleChangedEventDTO event = publishedEvent();
+        assertEquals(10L, event.getTurtleId());
+        assertEquals(2L, event.getOwnerId());
+        assertFalse(event.isDead());
+    }
+
+    @Test
+    public void 폐사하면_폐사_여부를_이벤트로_보낸다() {
+        turtle.turtleDie();
+        listener.onChanged(turtle);
+
+        TurtleChangedEventDTO event = publishedEvent();
+        assertTrue(event.isDead());
+        assertEquals(1L, event.getOwnerId());
+    }
+
+    private TurtleChangedEventDTO publishedEvent() {
+        ArgumentCaptor<Turtle> captor = ArgumentCaptor.forClass(Turtle.class);
+        verify(turtleEventPublisher).publishChanged(captor.capture());
+        return TurtleChangedEventDTO.from(captor.getValue());
+    }
+}